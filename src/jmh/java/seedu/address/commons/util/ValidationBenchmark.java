@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the validation of each field of a person against {@code String.matches} on the field's regex,
+ * which the validation used to call.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ValidationBenchmark {
+
+    private String name = "Alexander Tan Wei Ming";
+    private String phone = "98765432";
+    private String email = "alexander.tan-wei_ming@example-mail.com.sg";
+    private String address = "Blk 30 Geylang Street 29, #06-40";
+    private String tag = "colleagues";
+    private String appointment = "14:30-16:00 WED";
+
+    @Benchmark
+    public boolean name_regex() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean name_scanner() {
+        return Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean phone_regex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phone_scanner() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean email_regex() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean email_compiledPattern() {
+        return Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean address_regex() {
+        return address.matches(Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean address_scanner() {
+        return Address.isValidAddress(address);
+    }
+
+    @Benchmark
+    public boolean tag_regex() {
+        return tag.matches(Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tag_scanner() {
+        return Tag.isValidTagName(tag);
+    }
+
+    @Benchmark
+    public boolean appointment_regex() {
+        return appointment.matches(Appointment.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean appointment_scanner() {
+        return Appointment.isValidAppointment(appointment);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Compares importing a CSV file of persons into an empty address book against running an {@code add} command for
+ * each of its rows, leaving out the saving of the address book after each command.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ImportCommandBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Path filePath;
+    private List<String> addCommands;
+
+    /**
+     * Writes a CSV file of {@code size} persons and the equivalent {@code add} commands.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,tags,subjects,level");
+        addCommands = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = "Student " + i;
+            String phone = String.valueOf(80000000 + i);
+            String email = "student" + i + "@example.com";
+            lines.add(name + "," + phone + "," + email + ",centre" + (i % 7) + ",Math,P" + (1 + i % 6));
+            addCommands.add(AddCommand.COMMAND_WORD + " n/" + name + " p/" + phone + " e/" + email
+                    + " t/centre" + (i % 7) + " s/Math l/P" + (1 + i % 6));
+        }
+        filePath = Files.createTempFile("import", ".csv");
+        Files.write(filePath, lines);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public Model importCommand() throws CommandException {
+        Model model = new ModelManager();
+        new ImportCommand(filePath).execute(model);
+        return model;
+    }
+
+    @Benchmark
+    public Model addCommands() throws CommandException, ParseException {
+        Model model = new ModelManager();
+        AddressBookParser parser = new AddressBookParser();
+        for (String addCommand : addCommands) {
+            parser.parseCommand(addCommand).execute(model);
+        }
+        return model;
+    }
+}
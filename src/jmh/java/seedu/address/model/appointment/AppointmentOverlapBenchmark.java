@@ -0,0 +1,131 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.util.Pair;
+
+/**
+ * Compares {@link AppointmentOverlapDetector} against the pairwise scan it replaced, and measures sorting
+ * appointments by their packed start and duration.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AppointmentOverlapBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /** Appointments that do not overlap, which is the worst case for the pairwise scan. */
+    private List<Appointment> disjointAppointments;
+
+    /** Short appointments at random times, some of which overlap. */
+    private List<Appointment> randomAppointments;
+
+    /**
+     * Generates the appointments used by every benchmark.
+     * A week only has room for 10080 disjoint one-minute appointments, so the disjoint
+     * data set is capped at that size.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+
+        int disjointSize = Math.min(size, DAYS.length * (MINUTES_PER_DAY - 1));
+        int slotsPerDay = (disjointSize + DAYS.length - 1) / DAYS.length;
+        int slotLength = (MINUTES_PER_DAY - 1) / slotsPerDay;
+        disjointAppointments = new ArrayList<>();
+        for (int i = 0; i < disjointSize; i++) {
+            int start = (i / DAYS.length) * slotLength;
+            disjointAppointments.add(toAppointment(start, start + slotLength, DAYS[i % DAYS.length]));
+        }
+
+        randomAppointments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int start = random.nextInt(MINUTES_PER_DAY - 5);
+            int end = start + 1 + random.nextInt(4);
+            randomAppointments.add(toAppointment(start, end, DAYS[random.nextInt(DAYS.length)]));
+        }
+    }
+
+    @Benchmark
+    public boolean hasOverlapping_pairwise() {
+        return pairwiseHasOverlapping(disjointAppointments);
+    }
+
+    @Benchmark
+    public boolean hasOverlapping_sweep() {
+        return AppointmentOverlapDetector.hasOverlapping(disjointAppointments);
+    }
+
+    @Benchmark
+    public List<Pair<Appointment, Appointment>> findOverlappingPairs_pairwise() {
+        return pairwiseFindOverlappingPairs(randomAppointments);
+    }
+
+    @Benchmark
+    public List<Pair<Appointment, Appointment>> findOverlappingPairs_sweep() {
+        return AppointmentOverlapDetector.findOverlappingPairs(randomAppointments);
+    }
+
+    @Benchmark
+    public List<Appointment> sort() {
+        List<Appointment> sortedAppointments = new ArrayList<>(randomAppointments);
+        sortedAppointments.sort(Comparator.naturalOrder());
+        return sortedAppointments;
+    }
+
+    private static boolean pairwiseHasOverlapping(List<Appointment> appointments) {
+        int size = appointments.size();
+        for (int i = 0; i < size - 1; i += 1) {
+            for (int j = i + 1; j < size; j += 1) {
+                if (appointments.get(i).overlapsWith(appointments.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Pair<Appointment, Appointment>> pairwiseFindOverlappingPairs(List<Appointment> appointments) {
+        List<Pair<Appointment, Appointment>> overlappingPairs = new ArrayList<>();
+        int size = appointments.size();
+        for (int i = 0; i < size - 1; i += 1) {
+            for (int j = i + 1; j < size; j += 1) {
+                if (appointments.get(i).overlapsWith(appointments.get(j))) {
+                    overlappingPairs.add(new Pair<>(appointments.get(i), appointments.get(j)));
+                }
+            }
+        }
+        return overlappingPairs;
+    }
+
+    private static Appointment toAppointment(int start, int end, String day) {
+        return new Appointment(String.format("%02d:%02d-%02d:%02d %s",
+                start / 60, start % 60, end / 60, end % 60, day));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares suggesting names from {@link NamePrefixIndex} against filtering every name, as the command box would
+ * have to without the index.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class NamePrefixIndexBenchmark {
+
+    private static final int LIMIT = 8;
+    private static final String[] PREFIXES = {"a", "ma", "Tan W", "zz", "Jo"};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private NamePrefixIndex index;
+    private List<String> names;
+    private int prefixIndex;
+
+    /**
+     * Generates {@code size} distinct random names and indexes them.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+        index = new NamePrefixIndex();
+        names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Name name = new Name(randomWord(random) + " " + randomWord(random) + " " + i);
+            index.add(name);
+            names.add(name.fullName);
+        }
+    }
+
+    @Benchmark
+    public List<String> prefixIndex() {
+        return index.find(nextPrefix(), LIMIT);
+    }
+
+    @Benchmark
+    public List<String> scan() {
+        String lowerCasePrefix = nextPrefix().toLowerCase();
+        List<String> matchingNames = new ArrayList<>();
+        for (String name : names) {
+            if (name.toLowerCase().startsWith(lowerCasePrefix)) {
+                matchingNames.add(name);
+            }
+        }
+        matchingNames.sort(String.CASE_INSENSITIVE_ORDER);
+        return matchingNames.subList(0, Math.min(LIMIT, matchingNames.size()));
+    }
+
+    private String nextPrefix() {
+        prefixIndex = (prefixIndex + 1) % PREFIXES.length;
+        return PREFIXES[prefixIndex];
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        word.append((char) ('A' + random.nextInt(26)));
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
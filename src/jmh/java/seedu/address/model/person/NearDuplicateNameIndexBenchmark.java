@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares finding the names within a small edit distance of a misspelt name using the bigrams indexed by
+ * {@link NearDuplicateNameIndex} against computing the edit distance to every name.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class NearDuplicateNameIndexBenchmark {
+
+    private static final int MAX_EDIT_DISTANCE = 2;
+    private static final int QUERY_COUNT = 16;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private NearDuplicateNameIndex index;
+    private List<String> names;
+    private List<String> queries;
+    private int queryIndex;
+
+    /**
+     * Generates {@code size} random names and indexes them, and misspells some of them as queries.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+        index = new NearDuplicateNameIndex();
+        names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = randomWord(random) + " " + randomWord(random);
+            index.add(name);
+            names.add(name);
+        }
+
+        queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            StringBuilder query = new StringBuilder(names.get(random.nextInt(size)));
+            int position = random.nextInt(query.length());
+            if (query.charAt(position) != ' ') {
+                query.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            }
+            queries.add(query.toString());
+        }
+    }
+
+    @Benchmark
+    public List<String> bigramIndex() {
+        return index.find(nextQuery(), MAX_EDIT_DISTANCE);
+    }
+
+    @Benchmark
+    public List<String> scan() {
+        String normalizedQuery = NearDuplicateNameIndex.normalize(nextQuery());
+        List<String> matchingNames = new ArrayList<>();
+        for (String name : names) {
+            String normalizedName = NearDuplicateNameIndex.normalize(name);
+            if (NearDuplicateNameIndex.editDistance(normalizedQuery, normalizedName) <= MAX_EDIT_DISTANCE) {
+                matchingNames.add(name);
+            }
+        }
+        return matchingNames;
+    }
+
+    private String nextQuery() {
+        queryIndex = (queryIndex + 1) % queries.size();
+        return queries.get(queryIndex);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        word.append((char) ('A' + random.nextInt(26)));
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
+import seedu.address.storage.AddressBookSnapshotStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, the user prefs and the address book in the data file given by the user prefs, for both the
+ * application and the batch of commands run without the user interface, so that both use the same files.
+ * This does not use JavaFX.
+ */
+class AddressBookLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config loadConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs loadPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the address book at the data file in {@code userPrefs} in {@code format}.
+     */
+    static AddressBookSnapshotStorage getSnapshotStorage(ReadOnlyUserPrefs userPrefs, AddressBookFormat format) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        int backupCount = userPrefs.getAddressBookBackupCount();
+        return format == AddressBookFormat.BINARY
+                ? new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath), backupCount)
+                : new JsonAddressBookStorage(jsonFilePath, userPrefs.isAddressBookCompact(), backupCount);
+    }
+
+    /**
+     * Returns the address book in {@code storage}, after converting it to the format in {@code userPrefs} if it was
+     * saved in the other format more recently, such as when the format has just been changed. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    static ReadOnlyAddressBook load(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        long startTime = System.nanoTime();
+        convertIfNewer(userPrefs);
+        ReadOnlyAddressBook addressBook = read(storage);
+        logger.info("Loading address book took "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        return addressBook;
+    }
+
+    private static void convertIfNewer(ReadOnlyUserPrefs userPrefs) {
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        AddressBookFormat otherFormat = format == AddressBookFormat.BINARY
+                ? AddressBookFormat.JSON
+                : AddressBookFormat.BINARY;
+        AddressBookSnapshotStorage snapshotStorage = getSnapshotStorage(userPrefs, format);
+        AddressBookSnapshotStorage otherStorage = getSnapshotStorage(userPrefs, otherFormat);
+        try {
+            AddressBookFileConverter.convertIfNewer(otherStorage, snapshotStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to convert " + otherStorage.getAddressBookFilePath() + " to "
+                    + snapshotStorage.getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static ReadOnlyAddressBook read(Storage storage) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return initialData;
+    }
+}
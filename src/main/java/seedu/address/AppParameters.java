@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +10,25 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ *
+ * Giving a file of commands with {@code --batch=FILE} runs the commands in it without the user interface,
+ * saving the address book after every {@code --checkpoint=N} commands that change it and once at the end.
  */
 public class AppParameters {
+    /** The checkpoint interval when the address book is only saved once the batch of commands has run. */
+    public static final int NO_CHECKPOINTS = 0;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private Path batchFilePath;
+    private int checkpointInterval = NO_CHECKPOINTS;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +38,56 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run without the user interface, or null if the application is to be run
+     * with the user interface.
+     */
+    public Path getBatchFilePath() {
+        return batchFilePath;
+    }
+
+    public void setBatchFilePath(Path batchFilePath) {
+        this.batchFilePath = batchFilePath;
+    }
+
+    /**
+     * Returns the number of commands that change the address book after which the address book is saved while
+     * running a file of commands, or {@link #NO_CHECKPOINTS}.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to the application before it is launched, reading the named
+     * parameters in the {@code --name=value} form used by {@link Application.Parameters#getNamed()}.
+     * This does not need the JavaFX toolkit to be running.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +96,22 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchFilePathParameter = namedParameters.get("batch");
+        if (batchFilePathParameter != null && !FileUtil.isValidPath(batchFilePathParameter)) {
+            logger.warning("Invalid batch file path " + batchFilePathParameter + ". Starting the user interface.");
+            batchFilePathParameter = null;
+        }
+        appParameters.setBatchFilePath(batchFilePathParameter != null ? Paths.get(batchFilePathParameter) : null);
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null && !StringUtil.isNonZeroUnsignedInteger(checkpointParameter)) {
+            logger.warning("Invalid checkpoint interval " + checkpointParameter + ". Saving only at the end.");
+            checkpointParameter = null;
+        }
+        appParameters.setCheckpointInterval(checkpointParameter != null
+                ? Integer.parseInt(checkpointParameter)
+                : NO_CHECKPOINTS);
+
         return appParameters;
     }
 
@@ -56,18 +127,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchFilePath, otherAppParameters.batchFilePath)
+                && checkpointInterval == otherAppParameters.checkpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchFilePath, checkpointInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchFilePath", batchFilePath)
+                .add("checkpointInterval", checkpointInterval)
                 .toString();
     }
 }
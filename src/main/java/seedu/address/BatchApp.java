@@ -0,0 +1,95 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchCommandRunner;
+import seedu.address.logic.BatchReport;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs a file of commands against the address book without the user interface, and without starting the JavaFX
+ * toolkit, using the same config, preferences and data file as the application.
+ */
+public class BatchApp {
+
+    /** The exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status when some commands failed, and the others were run and saved. */
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    /** The exit status when the commands could not be read, or the address book could not be saved. */
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_ERROR = "Could not run %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Runs the commands in the batch file of {@code appParameters}, printing the commands that failed and a summary
+     * of the batch to {@code out}, and returns the exit status of the application.
+     */
+    public static int run(AppParameters appParameters, PrintStream out) {
+        Path batchFilePath = appParameters.getBatchFilePath();
+        logger.info("=============================[ Running batch " + batchFilePath + " ]===========================");
+
+        Config config = AddressBookLoader.loadConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AddressBookLoader.loadPrefs(userPrefsStorage);
+
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(
+                AddressBookLoader.getSnapshotStorage(userPrefs, userPrefs.getAddressBookFormat()));
+        // the data file is written in the background, so errors writing it are only known once it is closed
+        AtomicReference<IOException> saveError = new AtomicReference<>();
+        addressBookStorage.setErrorHandler(saveError::set);
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Model model = new ModelManager(AddressBookLoader.load(storage, userPrefs), userPrefs);
+
+        BatchReport report;
+        try (BufferedReader commands = Files.newBufferedReader(batchFilePath, StandardCharsets.UTF_8)) {
+            report = new BatchCommandRunner(model, storage, appParameters.getCheckpointInterval()).run(commands);
+        } catch (IOException e) {
+            logger.severe("Failed to run batch " + batchFilePath + ": " + StringUtil.getDetails(e));
+            out.println(String.format(MESSAGE_ERROR, batchFilePath, e.getMessage()));
+            closeStorage(addressBookStorage, saveError);
+            return EXIT_ERROR;
+        }
+        closeStorage(addressBookStorage, saveError);
+
+        report.getFailures().forEach(out::println);
+        out.println(report.getSummary());
+        logger.info(report.getSummary());
+        if (saveError.get() != null) {
+            out.println(String.format(MESSAGE_ERROR, batchFilePath, saveError.get().getMessage()));
+            return EXIT_ERROR;
+        }
+        return report.hasFailures() ? EXIT_COMMANDS_FAILED : EXIT_SUCCESS;
+    }
+
+    /**
+     * Waits for the address book to be written, and closes its storage.
+     */
+    private static void closeStorage(JournaledAddressBookStorage addressBookStorage,
+            AtomicReference<IOException> saveError) {
+        try {
+            addressBookStorage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            saveError.compareAndSet(null, e);
+        }
+    }
+}
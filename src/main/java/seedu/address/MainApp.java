@@ -1,17 +1,16 @@
 package seedu.address;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -19,11 +18,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -33,11 +29,16 @@ import seedu.address.ui.UiManager;
 
 /**
  * Runs the application.
+ *
+ * The address book is loaded on a background thread while the model, logic and user interface are set up, so that
+ * the main window is shown straight away in a loading state. The time taken by each phase of starting up is logged.
  */
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 3, 0, true);
 
+    public static final String MESSAGE_LOADED = "Loaded %1$d persons.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,132 +47,76 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private JournaledAddressBookStorage addressBookStorage;
+    private CompletableFuture<ReadOnlyAddressBook> loadingAddressBook;
+    private long initStartTime;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AddressBookLoader.loadConfig(appParameters.getConfigPath());
         initLogging(config);
+        long phaseStartTime = logPhase("Reading config", initStartTime);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = AddressBookLoader.loadPrefs(userPrefsStorage);
+        phaseStartTime = logPhase("Reading preferences", phaseStartTime);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        // the preferences give the data file, so the address book is loaded from here on while the rest is set up
+        addressBookStorage = new JournaledAddressBookStorage(AddressBookLoader.getSnapshotStorage(userPrefs,
+                userPrefs.getAddressBookFormat()));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        loadingAddressBook = CompletableFuture.supplyAsync(() -> AddressBookLoader.load(storage, userPrefs));
 
+        model = new ModelManager(new AddressBook(), userPrefs);
+        logic = new LogicManager(model, storage, true);
         ui = new UiManager(logic);
+        addressBookStorage.setErrorHandler(e -> ui.showFeedbackToUser(LogicManager.getSaveErrorMessage(e)));
+        logPhase("Setting up model, logic and UI", phaseStartTime);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Logs the time taken by the phase of starting up called {@code phase}, which started at {@code startTime},
+     * and returns the time at which it ended.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
+    private static long logPhase(String phase, long startTime) {
+        long endTime = System.nanoTime();
+        logger.info(phase + " took " + TimeUnit.NANOSECONDS.toMillis(endTime - startTime) + " ms");
+        return endTime;
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting AddressBook " + MainApp.VERSION);
+        long startTime = System.nanoTime();
+        ui.start(primaryStage);
+        logPhase("Showing main window", startTime);
+        logPhase("Starting up until the main window was shown", initStartTime);
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        loadingAddressBook.whenComplete((addressBook, e) -> Platform.runLater(() -> finishLoading(addressBook, e)));
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Gives the model the {@code addressBook} that was loaded, or an empty address book if loading it failed
+     * with {@code error}.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+    private void finishLoading(ReadOnlyAddressBook addressBook, Throwable error) {
+        if (error != null) {
+            logger.severe("Failed to load the address book: " + StringUtil.getDetails(error));
         }
-
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        long startTime = System.nanoTime();
+        logic.finishLoading(error == null ? addressBook : new AddressBook());
+        logPhase("Showing the loaded address book", startTime);
+        logPhase("Starting up until the address book was shown", initStartTime);
+        ui.showFeedbackToUser(String.format(MESSAGE_LOADED, model.getAddressBook().getPersonList().size()));
     }
 
     @Override
@@ -182,5 +127,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            addressBookStorage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file one at a time, so that a large file never has to be held in memory.
+ *
+ * Values are separated by commas and records by line breaks. A value may be enclosed in double quotes to hold commas,
+ * line breaks or double quotes, with each double quote in the value written twice. A byte order mark at the start of
+ * the file, as written by some spreadsheet programs, is ignored.
+ */
+public class CsvReader {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Line %1$d: a quoted value is not closed";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    /**
+     * Creates a reader of the records read from {@code reader}.
+     */
+    public CsvReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the values of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the records could not be read, or a quoted value is not closed before the end.
+     */
+    public List<String> readRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        int position = 0;
+        while (position < line.length() || isQuoted) {
+            if (position == line.length()) {
+                // a quoted value continues on the next line
+                line = readLine();
+                if (line == null) {
+                    throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, recordLineNumber));
+                }
+                value.append('\n');
+                position = 0;
+                continue;
+            }
+
+            char c = line.charAt(position++);
+            if (isQuoted && c == QUOTE && position < line.length() && line.charAt(position) == QUOTE) {
+                value.append(QUOTE);
+                position++;
+            } else if (c == QUOTE) {
+                isQuoted = !isQuoted;
+            } else if (c == SEPARATOR && !isQuoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Returns the number of the line on which the record last read starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+}
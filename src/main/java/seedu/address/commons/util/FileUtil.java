@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +84,93 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with the contents written by {@code contentWriter}, such that
+     * {@code file} holds either its old contents or all of its new contents even if the application crashes.
+     * The new contents are written to a temporary file in the same directory, which is synced to the disk
+     * and then moved over {@code file} in a single step.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param backupCount the number of previous versions of {@code file} to keep, with the most recent one
+     *     named {@code file}.bak1, the one before that {@code file}.bak2, and so on.
+     */
+    public static void writeToFileAtomically(Path file, ChannelWriter contentWriter, int backupCount)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                contentWriter.write(channel);
+                channel.force(true);
+            }
+            if (backupCount > 0 && isFileExists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            moveAtomically(tempFile, file);
+            syncDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of {@code file}.
+     */
+    public static Path getBackupPath(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + ".bak" + index);
+    }
+
+    /**
+     * Shifts the existing backups of {@code file} back by one, dropping the oldest,
+     * and makes the current contents of {@code file} its most recent backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int index = backupCount - 1; index >= 1; index--) {
+            Path backup = getBackupPath(file, index);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // linking instead of moving keeps the file in place until the new contents replace it
+        Path latestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the entry of a file that was just moved into {@code directory} to the disk, where supported.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms, such as Windows, do not allow directories to be opened or synced
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a {@code FileChannel}.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        /**
+         * Writes the contents to {@code channel}, without closing it.
+         */
+        void write(FileChannel channel) throws IOException;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,34 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a {@code JsonParser} that reads the given file incrementally.
+     * Values read through the parser are bound with the same configuration as {@link #readJsonFile(Path, Class)}.
+     * The file is closed when the parser is closed.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} that writes to {@code outputStream} incrementally.
+     * Values written through the generator are serialized with the same configuration as
+     * {@link #saveJsonFile(Object, Path)}. Closing the generator flushes it but does not close {@code outputStream}.
+     *
+     * @param outputStream cannot be null.
+     * @param isCompact whether to leave out the whitespace that pretty-prints the output.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isCompact) throws IOException {
+        requireNonNull(outputStream);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -0,0 +1,108 @@
+package seedu.address.commons.util;
+
+/**
+ * Scanners that check strings against the simple grammars of the model's fields without a regex.
+ * Each scanner accepts exactly the strings matched by the regex it documents, and does not allocate.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minLength} digits, as matched by {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        int length = test.length();
+        if (length < minLength) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a non-empty string of letters and digits, as matched by {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        int length = test.length();
+        if (length == 0) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is made up of letters, digits and spaces, and starts with a letter or digit,
+     * as matched by {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        int length = test.length();
+        if (length == 0 || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} does not start with whitespace and has no line breaks after its first character,
+     * as matched by {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        int length = test.length();
+        if (length == 0 || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+
+        // a surrogate pair counts as one character in the regex, but neither half is a line terminator
+        for (int i = 1; i < length; i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
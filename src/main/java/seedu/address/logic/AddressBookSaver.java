@@ -0,0 +1,76 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book of a model to storage when it has changed since it was last saved or loaded, for both
+ * {@link LogicManager} and {@link BatchCommandRunner}.
+ *
+ * Only the changes since the last save are written if a whole version of the address book is known to be saved.
+ * The loaded address book is not known to be saved, since it may be sample data, so the first save after loading
+ * writes the whole address book.
+ */
+class AddressBookSaver {
+
+    private final Model model;
+    private final Storage storage;
+    private long lastSavedVersion;
+    private boolean isWholeVersionSaved;
+
+    /**
+     * Constructs an {@code AddressBookSaver} that saves the address book of {@code model} to {@code storage},
+     * starting from the address book currently in {@code model}.
+     */
+    AddressBookSaver(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+        resetToLoaded();
+    }
+
+    /**
+     * Treats the address book currently in the model as the loaded one, which does not have to be saved until
+     * it changes.
+     */
+    void resetToLoaded() {
+        model.takeAddressBookChanges();
+        lastSavedVersion = model.getAddressBookVersion();
+        isWholeVersionSaved = false;
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved or loaded, and returns true if it was saved.
+     *
+     * @throws IOException if the address book could not be saved, in which case the whole address book is saved
+     *     the next time.
+     */
+    boolean save() throws IOException {
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        long version = model.getAddressBookVersion();
+        if (version == lastSavedVersion) {
+            return false;
+        }
+
+        try {
+            // the changes alone only describe the address book if the previous version is known to be saved
+            if (!isWholeVersionSaved || changes.isEmpty()) {
+                storage.saveAddressBook(model.getAddressBook());
+            } else {
+                storage.saveAddressBookChanges(model.getAddressBook(), changes);
+            }
+        } catch (IOException e) {
+            isWholeVersionSaved = false;
+            throw e;
+        }
+        lastSavedVersion = version;
+        isWholeVersionSaved = true;
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a batch of commands, one per line, against the model without the user interface, such as the commands
+ * generated by maintenance scripts.
+ *
+ * Unlike {@link LogicManager}, which saves the address book after every command, the address book is only saved
+ * after every {@code checkpointInterval} commands that change it, and once all the commands have run. A command
+ * that fails is reported and the rest of the batch still runs. Blank lines and lines starting with
+ * {@link #COMMENT_PREFIX} are skipped.
+ */
+public class BatchCommandRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_FAILURE = "Line %1$d: %2$s\n    %3$s";
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL = "Checkpoint interval cannot be negative";
+
+    private final Logger logger = LogsCenter.getLogger(BatchCommandRunner.class);
+
+    private final Model model;
+    private final AddressBookSaver addressBookSaver;
+    private final int checkpointInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private int unsavedCommandCount;
+    private int saveCount;
+
+    /**
+     * Constructs a {@code BatchCommandRunner} that runs commands against {@code model} and saves the address book
+     * to {@code storage} after every {@code checkpointInterval} commands that change it, or only at the end if
+     * {@code checkpointInterval} is 0.
+     */
+    public BatchCommandRunner(Model model, Storage storage, int checkpointInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(checkpointInterval >= 0, MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+        this.model = model;
+        addressBookSaver = new AddressBookSaver(model, storage);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs the commands read from {@code commands} one line at a time, and saves the address book once they have
+     * all run.
+     *
+     * @throws IOException if the commands could not be read or the address book could not be saved, in which case
+     *     the remaining commands are not run.
+     */
+    public BatchReport run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+        long startTime = System.nanoTime();
+        int succeededCount = 0;
+        List<String> failures = new ArrayList<>();
+
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            long versionBefore = model.getAddressBookVersion();
+            try {
+                addressBookParser.parseCommand(commandText).execute(model);
+                succeededCount++;
+            } catch (ParseException | CommandException e) {
+                failures.add(String.format(MESSAGE_FAILURE, lineNumber, commandText, e.getMessage()));
+            }
+
+            if (model.getAddressBookVersion() != versionBefore) {
+                unsavedCommandCount++;
+            }
+            if (checkpointInterval > 0 && unsavedCommandCount >= checkpointInterval) {
+                logger.info("Saving checkpoint after line " + lineNumber);
+                save();
+            }
+        }
+        save();
+
+        return new BatchReport(succeededCount, failures, saveCount, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved or loaded.
+     */
+    private void save() throws IOException {
+        if (addressBookSaver.save()) {
+            saveCount++;
+        }
+        unsavedCommandCount = 0;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the outcome of running a batch of commands.
+ */
+public class BatchReport {
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$.2f s (%3$.0f commands/s): "
+            + "%4$d succeeded, %5$d failed, %6$d saves.";
+
+    private final int succeededCount;
+    private final List<String> failures;
+    private final int saveCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report of a batch in which {@code succeededCount} commands succeeded and the commands described by
+     * {@code failures} failed, the address book was saved {@code saveCount} times, and which took
+     * {@code elapsedNanos} nanoseconds to run.
+     */
+    public BatchReport(int succeededCount, List<String> failures, int saveCount, long elapsedNanos) {
+        requireNonNull(failures);
+        this.succeededCount = succeededCount;
+        this.failures = new ArrayList<>(failures);
+        this.saveCount = saveCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    /**
+     * Returns a description of each command that failed, with its line number and the reason it failed,
+     * in the order of the commands.
+     */
+    public List<String> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     */
+    public double getThroughput() {
+        int commandCount = succeededCount + failures.size();
+        return elapsedNanos == 0 ? 0 : commandCount / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns a one-line summary of the counts of commands and saves, and the throughput of the batch.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_SUMMARY, succeededCount + failures.size(),
+                elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1), getThroughput(), succeededCount,
+                failures.size(), saveCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchReport)) {
+            return false;
+        }
+
+        BatchReport otherReport = (BatchReport) other;
+        return succeededCount == otherReport.succeededCount
+                && failures.equals(otherReport.failures)
+                && saveCount == otherReport.saveCount
+                && elapsedNanos == otherReport.elapsedNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(succeededCount, failures, saveCount, elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("succeededCount", succeededCount)
+                .add("failures", failures)
+                .add("saveCount", saveCount)
+                .add("elapsedNanos", elapsedNanos)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if the address book is still being loaded, during which commands are not executed.
+     */
+    boolean isLoading();
+
+    /**
+     * Replaces the address book with {@code addressBook}, which was loaded from the storage, and starts executing
+     * commands.
+     */
+    void finishLoading(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +45,14 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns up to {@code limit} names of persons that start with {@code prefix} ignoring case.
+     * This may be called from any thread.
+     *
+     * @see seedu.address.model.Model#findNamesByPrefix(String, int)
+     */
+    List<String> findNamesByPrefix(String prefix, int limit);
+
     /**
      * Returns the user prefs' address book file path.
      */
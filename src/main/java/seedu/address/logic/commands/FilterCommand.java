@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAttributesPredicate;
+
+/**
+ * Lists all persons in address book who have any of the given tags, any of the given subjects
+ * and any of the given levels.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons who have any of the specified "
+            + "tags, any of the specified subjects and any of the specified levels, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG]... [" + PREFIX_SUBJECT + "SUBJECT]... "
+            + "[" + PREFIX_LEVEL + "LEVEL]...\n"
+            + "At least one tag, subject or level must be specified.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LEVEL + "P5 " + PREFIX_SUBJECT + "MATH "
+            + PREFIX_TAG + "exam";
+
+    private final PersonHasAttributesPredicate predicate;
+
+    public FilterCommand(PersonHasAttributesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the matching persons are found by intersecting the bitmaps of the index rather than by testing every person
+        Set<Person> matchingPersons = model.findPersonsByAttributes(predicate.getTags(), predicate.getSubjects(),
+                predicate.getLevels());
+        model.updateFilteredPersonList(matchingPersons);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
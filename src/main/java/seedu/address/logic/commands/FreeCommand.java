@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.TimeSlot;
+
+/**
+ * Lists the periods without any appointment that are long enough for a lesson of a given duration.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the free periods of at least DURATION minutes between all appointments, "
+            + "on the days of the week specified or on every day.\n"
+            + "Parameters: DURATION [DAY_OF_WEEK]...\n"
+            + "Example: " + COMMAND_WORD + " 90 MON TUE";
+
+    public static final String MESSAGE_FREE_SLOTS = "Free periods of at least %d minutes:";
+    public static final String MESSAGE_NO_FREE_SLOTS = "There are no free periods of at least %d minutes!";
+
+    private final int duration;
+    private final List<DayOfWeek> days;
+
+    /**
+     * Creates a FreeCommand to list the free periods of at least {@code duration} minutes on {@code days}.
+     */
+    public FreeCommand(int duration, List<DayOfWeek> days) {
+        requireNonNull(days);
+        this.duration = duration;
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TimeSlot> freeSlots = model.findFreeSlots(days, duration);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, duration));
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_FREE_SLOTS, duration));
+        for (TimeSlot freeSlot : freeSlots) {
+            sb.append("\n").append(freeSlot);
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeCommand)) {
+            return false;
+        }
+
+        FreeCommand otherFreeCommand = (FreeCommand) other;
+        return duration == otherFreeCommand.duration
+                && days.equals(otherFreeCommand.days);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("duration", duration)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.WeeklyOccupancy;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds the persons in a CSV file to the address book.
+ *
+ * The file is read one row at a time, and each row is checked against the address book and the rows accepted
+ * before it, so that the accepted persons can be added to the address book together once the whole file has been
+ * read. Rows that cannot be added are reported together instead of stopping the import.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV file to the address book. "
+            + "The first line of the file names the column of each field, from: "
+            + String.join(", ", PersonCsvParser.getColumnNames()) + ". "
+            + "Separate several tags, appointments or subjects with \"" + PersonCsvParser.VALUE_SEPARATOR + "\".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s.";
+    public static final String MESSAGE_REJECTED_ROWS = "%1$d rows were not imported:";
+    public static final String MESSAGE_REJECTED_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more rows.";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person is already on row %1$d";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The file %1$s is empty, expected a header line";
+
+    /** The number of rejected rows that are described in the result, after which they are only counted. */
+    static final int MAX_REPORTED_REJECTED_ROWS = 100;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            return importPersons(model, new CsvReader(reader));
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Reads the rows of {@code csvReader} and adds the persons of the rows that can be added to {@code model}.
+     * Nothing is added if the file cannot be read to the end.
+     */
+    private CommandResult importPersons(Model model, CsvReader csvReader) throws IOException, CommandException {
+        List<String> header = csvReader.readRecord();
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_MISSING_HEADER, filePath));
+        }
+        PersonCsvParser personParser;
+        try {
+            personParser = new PersonCsvParser(header);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+
+        // the existing appointments are marked once, and each accepted row then marks its own appointments
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        occupancy.setAll(model.getAddressBook().getAppointmentList());
+        Map<String, Integer> rowsByLowerCaseName = new HashMap<>();
+        List<Person> toAdd = new ArrayList<>();
+        List<String> rejectedRows = new ArrayList<>();
+        int rejectedRowCount = 0;
+
+        for (List<String> record = csvReader.readRecord(); record != null; record = csvReader.readRecord()) {
+            if (isBlank(record)) {
+                continue;
+            }
+
+            int row = csvReader.getRecordLineNumber();
+            try {
+                Person person = personParser.parse(record);
+                checkCanAdd(model, person, rowsByLowerCaseName, occupancy);
+                person.getAppointments().forEach(occupancy::add);
+                rowsByLowerCaseName.put(person.getName().getFullNameLowerCase(), row);
+                toAdd.add(person);
+            } catch (ParseException | CommandException e) {
+                rejectedRowCount++;
+                if (rejectedRows.size() < MAX_REPORTED_REJECTED_ROWS) {
+                    rejectedRows.add(String.format(MESSAGE_REJECTED_ROW, row, e.getMessage()));
+                }
+            }
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+        }
+        return new CommandResult(formatResult(toAdd.size(), rejectedRows, rejectedRowCount));
+    }
+
+    /**
+     * Checks that {@code person} is not the same as a person in {@code model} or an accepted row, and that none of
+     * its appointments overlap with each other or with a minute marked in {@code occupancy}.
+     */
+    private static void checkCanAdd(Model model, Person person, Map<String, Integer> rowsByLowerCaseName,
+            WeeklyOccupancy occupancy) throws CommandException {
+        if (model.hasPerson(person)) {
+            throw new CommandException(AddCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        Integer duplicateRow = rowsByLowerCaseName.get(person.getName().getFullNameLowerCase());
+        if (duplicateRow != null) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_ROW, duplicateRow));
+        }
+
+        List<Appointment> appointments = person.getAppointments().asUnmodifiableObservableList();
+        if (Appointment.hasOverlapping(appointments) || appointments.stream().anyMatch(occupancy::overlaps)) {
+            throw new CommandException(DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private String formatResult(int importedCount, List<String> rejectedRows, int rejectedRowCount) {
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath));
+        if (rejectedRowCount == 0) {
+            return result.toString();
+        }
+
+        result.append('\n').append(String.format(MESSAGE_REJECTED_ROWS, rejectedRowCount));
+        for (String rejectedRow : rejectedRows) {
+            result.append('\n').append(rejectedRow);
+        }
+        if (rejectedRowCount > rejectedRows.size()) {
+            result.append('\n').append(String.format(MESSAGE_MORE_REJECTED_ROWS,
+                    rejectedRowCount - rejectedRows.size()));
+        }
+        return result.toString();
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(value -> value.trim().isEmpty());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -3,13 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import javafx.util.Pair;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.AppointmentIsDayOfWeekPredicate;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.OwnedAppointment;
 
 /**
  * Shows all appointments in the filtered address book.
@@ -36,24 +33,14 @@ public class ViewAppointmentsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        // Get all appointments from the last shown list of persons
-        List<String> appointments = lastShownList.stream()
-                .flatMap(person -> person.hasAppointments()
-                        ? person.getAppointments()
-                        .asUnmodifiableObservableList().stream()
-                        .filter(predicate)
-                        .map(appointment -> new Pair<>(appointment, person.getName().toString()))
-                        : Stream.empty())
-                .sorted((o1, o2) -> o1.getKey().compareTo(o2.getKey())) // comparing by appointment only
-                .map(pair -> pair.getValue() + ": " + pair.getKey().toString())
-                .collect(Collectors.toList());
+        // the appointments are kept sorted by day with their owners, so they are listed without sorting
+        List<OwnedAppointment> appointments = model.getFilteredPersonAppointments(predicate.getDays());
 
         StringBuilder sb = new StringBuilder();
         sb.append("Appointments:\n");
-        for (String appointment : appointments) {
-            sb.append(appointment).append("\n");
+        for (OwnedAppointment appointment : appointments) {
+            sb.append(appointment.getOwner().getName()).append(": ").append(appointment.getAppointment())
+                    .append("\n");
         }
 
         if (appointments.isEmpty()) {
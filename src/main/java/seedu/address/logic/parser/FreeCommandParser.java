@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object.
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim().toUpperCase();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        String duration = words[0];
+        if (!StringUtil.isNonZeroUnsignedInteger(duration)
+                || Integer.parseInt(duration) > Appointment.MINUTES_PER_DAY) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        if (words.length == 1) {
+            return new FreeCommand(Integer.parseInt(duration), Arrays.asList(DayOfWeek.values()));
+        }
+
+        List<DayOfWeek> days = new ArrayList<>();
+        for (int i = 1; i < words.length; i++) {
+            DayOfWeek day = Appointment.DAY_TO_DAY_OF_WEEK.get(words[i]);
+            if (day == null) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+            }
+            if (!days.contains(day)) {
+                days.add(day);
+            }
+        }
+        return new FreeCommand(Integer.parseInt(duration), days);
+    }
+}
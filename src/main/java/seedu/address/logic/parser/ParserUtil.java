@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -8,6 +9,7 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentList;
@@ -251,4 +253,30 @@ public class ParserUtil {
         }
         return new Level(level);
     }
+
+    /**
+     * Returns the position in {@code commandText} of the name being typed at its end, which is either the value of
+     * the last name prefix or the keywords of a find command, or -1 if no name is being typed.
+     */
+    public static int getNameStart(String commandText) {
+        int nameStart;
+        int namePrefixStart = commandText.lastIndexOf(" " + PREFIX_NAME);
+        String findCommandStart = FindCommand.COMMAND_WORD + " ";
+        if (namePrefixStart != -1) {
+            nameStart = namePrefixStart + 1 + PREFIX_NAME.getPrefix().length();
+        } else if (commandText.stripLeading().startsWith(findCommandStart)) {
+            nameStart = commandText.indexOf(findCommandStart) + findCommandStart.length();
+        } else {
+            return -1;
+        }
+
+        while (nameStart < commandText.length() && commandText.charAt(nameStart) == ' ') {
+            nameStart++;
+        }
+        // names cannot contain a '/', so one after the name prefix starts another prefix
+        if (nameStart == commandText.length() || commandText.indexOf('/', nameStart) != -1) {
+            return -1;
+        }
+        return nameStart;
+    }
 }
@@ -0,0 +1,144 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the records of a CSV file of persons into persons, using the header of the file to find the column of
+ * each field.
+ *
+ * The columns may be in any order, and only the name column is required. The columns of tags, appointments and
+ * subjects may hold several values separated by semicolons.
+ */
+public class PersonCsvParser {
+
+    public static final String VALUE_SEPARATOR = ";";
+
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column \"%1$s\" in the header, "
+            + "expected any of: %2$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column \"%1$s\" appears more than once in the header";
+    public static final String MESSAGE_MISSING_NAME_COLUMN = "The header must have a \"name\" column";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d values but found %2$d";
+
+    /**
+     * The columns of a CSV file of persons, named like the fields of a person in the JSON data file.
+     */
+    private enum Column {
+        NAME, PHONE, EMAIL, ADDRESS, NOTE, TAGS, APPOINTMENTS, SUBJECTS, LEVEL;
+
+        String getHeader() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<Column, Integer> positions = new EnumMap<>(Column.class);
+    private final int columnCount;
+
+    /**
+     * Creates a parser of the records of a file with the column names in {@code header}, ignoring case.
+     *
+     * @throws ParseException if a column name is unknown or repeated, or there is no name column.
+     */
+    public PersonCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        for (int i = 0; i < header.size(); i++) {
+            String columnName = header.get(i).trim();
+            Column column = findColumn(columnName);
+            if (positions.putIfAbsent(column, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, columnName));
+            }
+        }
+        if (!positions.containsKey(Column.NAME)) {
+            throw new ParseException(MESSAGE_MISSING_NAME_COLUMN);
+        }
+        columnCount = header.size();
+    }
+
+    /**
+     * Returns the names of the columns that a CSV file of persons may have.
+     */
+    public static List<String> getColumnNames() {
+        return Arrays.stream(Column.values()).map(Column::getHeader).collect(Collectors.toList());
+    }
+
+    /**
+     * Parses {@code record}, whose values are in the order of the header, into a person.
+     *
+     * @throws ParseException if the record does not have a value for each column, or a value is invalid.
+     */
+    public Person parse(List<String> record) throws ParseException {
+        requireNonNull(record);
+        if (record.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_VALUE_COUNT, columnCount, record.size()));
+        }
+
+        Name name = ParserUtil.parseName(getValue(record, Column.NAME));
+        Phone phone = ParserUtil.parsePhone(getValue(record, Column.PHONE));
+        Email email = ParserUtil.parseEmail(getValue(record, Column.EMAIL));
+        Address address = ParserUtil.parseAddress(getValue(record, Column.ADDRESS));
+        Note note = ParserUtil.parseNote(getValue(record, Column.NOTE));
+        Set<Tag> tags = ParserUtil.parseTags(getValues(record, Column.TAGS));
+        AppointmentList appointments = ParserUtil.parseAppointments(getValues(record, Column.APPOINTMENTS));
+        Set<Subject> subjects = ParserUtil.parseSubjects(getValues(record, Column.SUBJECTS));
+        Level level = ParserUtil.parseLevel(getValue(record, Column.LEVEL));
+
+        return new Person(name, phone, email, address, note, tags, appointments, subjects, level);
+    }
+
+    /**
+     * Returns the trimmed value of {@code column} in {@code record}, or null if the file has no such column.
+     */
+    private String getValue(List<String> record, Column column) {
+        Integer position = positions.get(column);
+        return position == null ? null : record.get(position).trim();
+    }
+
+    /**
+     * Returns the trimmed, non-empty values separated by semicolons in {@code column} of {@code record}.
+     */
+    private List<String> getValues(List<String> record, Column column) {
+        String value = getValue(record, column);
+        if (value == null || value.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(VALUE_SEPARATOR)) {
+            String trimmedPart = part.trim();
+            if (!trimmedPart.isEmpty()) {
+                values.add(trimmedPart);
+            }
+        }
+        return values;
+    }
+
+    private static Column findColumn(String columnName) throws ParseException {
+        for (Column column : Column.values()) {
+            if (column.getHeader().equalsIgnoreCase(columnName)) {
+                return column;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, columnName,
+                String.join(", ", getColumnNames())));
+    }
+}
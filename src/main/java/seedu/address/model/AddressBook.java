@@ -1,17 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.OwnedAppointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +33,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final DisjointAppointmentList appointments;
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -59,7 +72,7 @@ public class AddressBook implements ReadOnlyAddressBook {
                         .asUnmodifiableObservableList()
                         .stream())
                 .collect(Collectors.toList()));
-        this.appointments.sort();
+        version++;
     }
 
     /**
@@ -68,7 +81,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
-        this.appointments.sort();
     }
 
     //// person-level operations
@@ -81,6 +93,52 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book named {@code name}, if there is one.
+     */
+    public Optional<Person> findPerson(Name name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons that have any of {@code tags}, any of {@code subjects} and any of {@code levels},
+     * where an empty collection places no restriction on the persons found.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsByAttributes(Collection<Tag> tags, Collection<Subject> subjects,
+            Collection<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+        return persons.findByAttributes(tags, subjects, levels);
+    }
+
+    /**
+     * Returns up to {@code limit} names of persons that start with {@code prefix} ignoring case,
+     * in alphabetical order ignoring case. This may be called from any thread.
+     */
+    public List<String> findNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.findNamesByPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the appointments on any of {@code days} of the persons that satisfy {@code ownerFilter},
+     * together with their owners, ordered by day and then by time.
+     */
+    public List<OwnedAppointment> findAppointments(Collection<DayOfWeek> days, Predicate<? super Person> ownerFilter) {
+        requireAllNonNull(days, ownerFilter);
+        return persons.findAppointments(days, ownerFilter);
+    }
+
     /**
      * Returns a list of persons with similar name as {@code person}.
      */
@@ -95,10 +153,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
-        for (Appointment appointment : p.getAppointments()) {
-            addAppointment(appointment);
-        }
-        this.appointments.sort();
+        appointments.addAll(p.getAppointments().asUnmodifiableObservableList());
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book as a single change, instead of updating the persons and appointments
+     * once for each person.
+     * None of the persons may already exist in the address book or be the same as each other, and their
+     * appointments must not overlap with each other or with the existing appointments.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        persons.addAll(toAdd);
+        appointments.addAll(toAdd
+                .stream()
+                .flatMap(person -> person.getAppointments()
+                        .asUnmodifiableObservableList()
+                        .stream())
+                .collect(Collectors.toList()));
+        version++;
     }
 
     /**
@@ -111,16 +185,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         persons.setPerson(target, editedPerson);
 
-        // remove target's appointments
-        for (Appointment appointment : target.getAppointments()) {
-            appointments.remove(appointment);
-        }
-
-        // add editedPerson's appointments
-        for (Appointment appointment : editedPerson.getAppointments()) {
-            addAppointment(appointment);
-        }
-        this.appointments.sort();
+        // replace target's appointments with editedPerson's appointments
+        appointments.replace(target.getAppointments().asUnmodifiableObservableList(),
+                editedPerson.getAppointments().asUnmodifiableObservableList());
+        version++;
     }
 
     /**
@@ -131,11 +199,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
 
         // remove key's appointments
-        for (Appointment appointment : key.getAppointments()) {
-            appointments.remove(appointment);
-        }
-
-        this.appointments.sort();
+        appointments.removeAll(key.getAppointments().asUnmodifiableObservableList());
+        version++;
     }
 
     //// appointment-level operations
@@ -145,7 +210,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAppointment(Appointment appointment) {
         appointments.add(appointment);
-        this.appointments.sort();
+        version++;
     }
 
     /**
@@ -157,7 +222,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedAppointment);
 
         appointments.setAppointment(target, editedAppointment);
-        this.appointments.sort();
+        version++;
     }
 
     /**
@@ -181,8 +246,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return false;
     }
 
+    /**
+     * Returns the periods without any appointment on each of {@code days} that are at least {@code minDuration}
+     * minutes long, in order of {@code days} and then of time.
+     */
+    public List<TimeSlot> findFreeSlots(List<DayOfWeek> days, int minDuration) {
+        requireNonNull(days);
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        for (DayOfWeek day : days) {
+            freeSlots.addAll(appointments.findFreeSlots(day, minDuration));
+        }
+        return freeSlots;
+    }
+
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The version changes whenever the persons or appointments in the address book change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single change made to the persons in an address book.
+ * Guarantees: immutable; the persons needed by the type of change are present and not null.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of changes that can be made to an address book.
+     */
+    public enum Type {
+        /** A person was added to the end of the person list. */
+        ADD,
+        /** The target person was replaced by another person. */
+        EDIT,
+        /** The target person was removed. */
+        DELETE,
+        /** All persons were removed. */
+        CLEAR
+    }
+
+    private final Type type;
+    private final Person target;
+    private final Person person;
+
+    private AddressBookChange(Type type, Person target, Person person) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns the change that adds {@code person}.
+     */
+    public static AddressBookChange added(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD, null, person);
+    }
+
+    /**
+     * Returns the change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static AddressBookChange edited(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new AddressBookChange(Type.EDIT, target, editedPerson);
+    }
+
+    /**
+     * Returns the change that removes {@code target}.
+     */
+    public static AddressBookChange deleted(Person target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.DELETE, target, null);
+    }
+
+    /**
+     * Returns the change that removes all persons.
+     */
+    public static AddressBookChange cleared() {
+        return new AddressBookChange(Type.CLEAR, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person that was edited or deleted, or null for other types of changes.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that was added, or the edited person, or null for other types of changes.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(person, otherChange.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .toString();
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats that the address book can be saved to the hard disk in.
+ */
+public enum AddressBookFormat {
+    /** A json file that can be read and edited by hand. */
+    JSON,
+    /** A compact binary file that is faster to load. */
+    BINARY
+}
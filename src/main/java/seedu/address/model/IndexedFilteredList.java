@@ -0,0 +1,320 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of a source list, like {@link javafx.collections.transformation.FilteredList}, that can also be
+ * filtered to a set of elements found through an index, without testing every element of the source.
+ *
+ * Changing the filter only reports the elements that enter or leave the view, and a change to a few elements of the
+ * source is applied to the view by testing only those elements, so a list view showing this list only updates the
+ * cells that are affected. The source must not contain the same element more than once.
+ */
+class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate = unused -> true;
+
+    /** The indices in the source of the elements in this list, in ascending order. */
+    private int[] filtered;
+    private int size;
+
+    /** The index in the source of each element of the source, or null if it has to be rebuilt. */
+    private Map<E, Integer> sourceIndices;
+
+    /**
+     * Creates a list that shows every element of {@code source}.
+     */
+    IndexedFilteredList(ObservableList<E> source) {
+        super(source);
+        size = source.size();
+        filtered = new int[Math.max(size, 16)];
+        for (int i = 0; i < size; i++) {
+            filtered[i] = i;
+        }
+    }
+
+    /**
+     * Shows the elements of the source that satisfy {@code predicate}, which is tested against every element.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        ObservableList<? extends E> source = getSource();
+        int[] newFiltered = new int[source.size()];
+        int newSize = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                newFiltered[newSize++] = i;
+            }
+        }
+
+        this.predicate = predicate;
+        setFiltered(newFiltered, newSize);
+    }
+
+    /**
+     * Shows the elements of the source that are in {@code matches}, which are looked up in the source by identity
+     * rather than by testing every element. Elements added to the source later are shown if they are in
+     * {@code matches}.
+     */
+    public void setMatches(Set<? extends E> matches) {
+        requireNonNull(matches);
+        Map<E, Integer> indices = getSourceIndices();
+        int[] newFiltered = new int[matches.size()];
+        int newSize = 0;
+        for (E match : matches) {
+            Integer index = indices.get(match);
+            if (index != null) {
+                newFiltered[newSize++] = index;
+            }
+        }
+        Arrays.sort(newFiltered, 0, newSize);
+
+        this.predicate = matches::contains;
+        setFiltered(newFiltered, newSize);
+    }
+
+    /**
+     * Returns true if {@code element}, compared by identity, is an element of the source shown in this list.
+     * Unlike {@link #contains(Object)}, this looks the element up in the source instead of scanning this list.
+     */
+    public boolean isShown(E element) {
+        Integer sourceIndex = getSourceIndices().get(element);
+        return sourceIndex != null && getViewIndex(sourceIndex) != -1;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the elements shown with the source elements at {@code newFiltered}, reporting only the elements
+     * that leave or enter this list.
+     */
+    private void setFiltered(int[] newFiltered, int newSize) {
+        beginChange();
+        int position = 0;
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < size || newIndex < newSize) {
+            if (oldIndex < size && newIndex < newSize && filtered[oldIndex] == newFiltered[newIndex]) {
+                position++;
+                oldIndex++;
+                newIndex++;
+            } else if (newIndex == newSize || (oldIndex < size && filtered[oldIndex] < newFiltered[newIndex])) {
+                nextRemove(position, getSource().get(filtered[oldIndex]));
+                oldIndex++;
+            } else {
+                nextAdd(position, position + 1);
+                position++;
+                newIndex++;
+            }
+        }
+
+        filtered = newFiltered;
+        size = newSize;
+        endChange();
+    }
+
+    /**
+     * Applies the elements removed from and added to the source in {@code c}, testing only the added elements.
+     */
+    private void addRemove(ListChangeListener.Change<? extends E> c) {
+        int from = c.getFrom();
+        int removedSize = c.wasRemoved() ? c.getRemovedSize() : 0;
+        int addedSize = c.wasAdded() ? c.getAddedSize() : 0;
+        updateSourceIndices(c, from, removedSize, addedSize);
+
+        int position = findPosition(from);
+        int removedEnd = position;
+        while (removedEnd < size && filtered[removedEnd] < from + removedSize) {
+            removedEnd++;
+        }
+        if (removedEnd > position) {
+            List<E> removed = new ArrayList<>(removedEnd - position);
+            for (int i = position; i < removedEnd; i++) {
+                removed.add(c.getRemoved().get(filtered[i] - from));
+            }
+            nextRemove(position, removed);
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        // the elements after the change move by the difference in the number of elements added and removed
+        int tailSize = size - removedEnd;
+        int newSize = position + addedCount + tailSize;
+        ensureCapacity(newSize);
+        System.arraycopy(filtered, removedEnd, filtered, position + addedCount, tailSize);
+        System.arraycopy(added, 0, filtered, position, addedCount);
+        int shift = addedSize - removedSize;
+        if (shift != 0) {
+            for (int i = position + addedCount; i < newSize; i++) {
+                filtered[i] += shift;
+            }
+        }
+        size = newSize;
+
+        if (addedCount > 0) {
+            nextAdd(position, position + addedCount);
+        }
+    }
+
+    /**
+     * Tests the source elements updated in {@code c} again.
+     */
+    private void update(ListChangeListener.Change<? extends E> c) {
+        for (int i = c.getFrom(); i < c.getTo(); i++) {
+            E element = getSource().get(i);
+            int position = findPosition(i);
+            boolean isShown = position < size && filtered[position] == i;
+            boolean isMatch = predicate.test(element);
+            if (isShown && isMatch) {
+                nextUpdate(position);
+            } else if (isShown) {
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (isMatch) {
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, position, filtered, position + 1, size - position);
+                filtered[position] = i;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    /**
+     * Moves the elements shown within the source elements reordered in {@code c} to their new positions.
+     */
+    private void permute(ListChangeListener.Change<? extends E> c) {
+        sourceIndices = null;
+        int start = findPosition(c.getFrom());
+        int end = findPosition(c.getTo());
+        if (end - start == 0) {
+            return;
+        }
+
+        Integer[] order = new Integer[end - start];
+        for (int i = start; i < end; i++) {
+            order[i - start] = i;
+        }
+        int[] newSourceIndices = new int[size];
+        for (int i = start; i < end; i++) {
+            newSourceIndices[i] = c.getPermutation(filtered[i]);
+        }
+        Arrays.sort(order, (first, second) -> Integer.compare(newSourceIndices[first], newSourceIndices[second]));
+
+        int[] permutation = new int[end - start];
+        for (int i = start; i < end; i++) {
+            int oldPosition = order[i - start];
+            permutation[oldPosition - start] = i;
+            filtered[i] = newSourceIndices[oldPosition];
+        }
+        nextPermutation(start, end, permutation);
+    }
+
+    /**
+     * Keeps the index of each source element up to date for the common changes of appending elements and
+     * replacing one element, and otherwise leaves it to be rebuilt when it is next needed.
+     */
+    private void updateSourceIndices(ListChangeListener.Change<? extends E> c, int from, int removedSize,
+            int addedSize) {
+        if (sourceIndices == null) {
+            return;
+        }
+
+        boolean isAppend = removedSize == 0 && from + addedSize == getSource().size();
+        boolean isReplace = removedSize == 1 && addedSize == 1;
+        if (isAppend) {
+            for (int i = from; i < from + addedSize; i++) {
+                sourceIndices.put(getSource().get(i), i);
+            }
+        } else if (isReplace) {
+            sourceIndices.remove(c.getRemoved().get(0));
+            sourceIndices.put(getSource().get(from), from);
+        } else {
+            sourceIndices = null;
+        }
+    }
+
+    private Map<E, Integer> getSourceIndices() {
+        if (sourceIndices == null) {
+            sourceIndices = new IdentityHashMap<>();
+            ObservableList<? extends E> source = getSource();
+            for (int i = 0; i < source.size(); i++) {
+                sourceIndices.put(source.get(i), i);
+            }
+        }
+        return sourceIndices;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    /**
+     * Returns the position in this list of the first element at or after {@code sourceIndex} in the source.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.OwnedAppointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -55,11 +62,41 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever the address book is modified.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the changes made to the persons in the address book since this method was last called, in the order
+     * they were made, and forgets them.
+     */
+    List<AddressBookChange> takeAddressBookChanges();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose names contain any of {@code keywords} as a whole word,
+     * ignoring case. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsByNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the persons in the address book that have any of {@code tags}, any of {@code subjects} and any of
+     * {@code levels}, where an empty collection places no restriction on the persons found.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsByAttributes(Collection<Tag> tags, Collection<Subject> subjects, Collection<Level> levels);
+
+    /**
+     * Returns up to {@code limit} names of persons in the address book that start with {@code prefix} ignoring case,
+     * in alphabetical order ignoring case. Unlike the other methods of the model, this may be called from any thread.
+     */
+    List<String> findNamesByPrefix(String prefix, int limit);
+
     /**
      * Returns a list of persons with similar name as {@code person}.
      */
@@ -78,6 +115,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single change to the address book.
+     * None of {@code persons} may already exist in the address book or be the same as each other, and their
+     * appointments must not overlap with each other or with the existing appointments.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -95,9 +139,21 @@ public interface Model {
      */
     boolean appointmentsOverlap(Appointment appointment);
 
+    /**
+     * Returns the periods without any appointment on each of {@code days} that are at least {@code minDuration}
+     * minutes long, in order of {@code days} and then of time.
+     */
+    List<TimeSlot> findFreeSlots(List<DayOfWeek> days, int minDuration);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the appointments on any of {@code days} of the persons in the filtered person list, together with
+     * their owners, ordered by day and then by time.
+     */
+    List<OwnedAppointment> getFilteredPersonAppointments(Collection<DayOfWeek> days);
+
     /** Returns an unmodifiable view of the filtered appointment list */
     ObservableList<Appointment> getFilteredAppointmentList();
 
@@ -107,6 +163,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only {@code matchingPersons}, such as the persons found
+     * through an index of the address book. The persons are compared by identity, and unlike filtering by a predicate,
+     * the persons in the address book are not tested one by one.
+     * @throws NullPointerException if {@code matchingPersons} is null.
+     */
+    void updateFilteredPersonList(Set<Person> matchingPersons);
+
     /**
      * Updates the filter of the filtered Appointment list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,7 +17,12 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.OwnedAppointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,8 +32,9 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final IndexedFilteredList<Person> filteredPersons;
     private final FilteredList<Appointment> filteredAppointments;
+    private final List<AddressBookChange> addressBookChanges = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,7 +46,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new IndexedFilteredList<>(this.addressBook.getPersonList());
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
     }
 
@@ -84,6 +93,11 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+
+        addressBookChanges.add(AddressBookChange.cleared());
+        for (Person person : addressBook.getPersonList()) {
+            addressBookChanges.add(AddressBookChange.added(person));
+        }
     }
 
     @Override
@@ -91,6 +105,18 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public List<AddressBookChange> takeAddressBookChanges() {
+        List<AddressBookChange> changes = new ArrayList<>(addressBookChanges);
+        addressBookChanges.clear();
+        return changes;
+    }
+
     //// person functionality
     @Override
     public boolean hasPerson(Person person) {
@@ -98,6 +124,25 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Person> findPersonsByAttributes(Collection<Tag> tags, Collection<Subject> subjects,
+            Collection<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+        return addressBook.findPersonsByAttributes(tags, subjects, levels);
+    }
+
+    @Override
+    public List<String> findNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.findNamesByPrefix(prefix, limit);
+    }
+
     /**
      * Returns a list of persons with similar name as {@code person}.
      */
@@ -110,11 +155,24 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        addressBookChanges.add(AddressBookChange.deleted(target));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        addressBookChanges.add(AddressBookChange.added(person));
+
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        for (Person person : persons) {
+            addressBookChanges.add(AddressBookChange.added(person));
+        }
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -124,6 +182,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        addressBookChanges.add(AddressBookChange.edited(target, editedPerson));
     }
 
     //// appointment functionality
@@ -139,6 +198,12 @@ public class ModelManager implements Model {
         return addressBook.appointmentsOverlap(appointments);
     }
 
+    @Override
+    public List<TimeSlot> findFreeSlots(List<DayOfWeek> days, int minDuration) {
+        requireNonNull(days);
+        return addressBook.findFreeSlots(days, minDuration);
+    }
+
 
     //=========== Filtered Person List Accessors =============================================================
 
@@ -157,6 +222,18 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Set<Person> matchingPersons) {
+        requireNonNull(matchingPersons);
+        filteredPersons.setMatches(matchingPersons);
+    }
+
+    @Override
+    public List<OwnedAppointment> getFilteredPersonAppointments(Collection<DayOfWeek> days) {
+        requireNonNull(days);
+        return addressBook.findAppointments(days, filteredPersons::isShown);
+    }
+
     //=========== Filtered Appointment List Accessors =============================================================
 
     /**
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getAddressBookBackupCount();
+
+    AddressBookFormat getAddressBookFormat();
+
+    boolean isAddressBookCompact();
+
 }
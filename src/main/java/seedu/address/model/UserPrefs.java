@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int addressBookBackupCount = 1;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean isAddressBookCompact = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookBackupCount(newUserPrefs.getAddressBookBackupCount());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookCompact(newUserPrefs.isAddressBookCompact());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getAddressBookBackupCount() {
+        return addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookCompact() {
+        return isAddressBookCompact;
+    }
+
+    public void setAddressBookCompact(boolean isAddressBookCompact) {
+        this.isAddressBookCompact = isAddressBookCompact;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +100,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookBackupCount == otherUserPrefs.addressBookBackupCount
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && isAddressBookCompact == otherUserPrefs.isAddressBookCompact;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookBackupCount, addressBookFormat,
+                isAddressBookCompact);
     }
 
     @Override
@@ -82,6 +117,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file backups : " + addressBookBackupCount);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLocal data file compact : " + isAddressBookCompact);
         return sb.toString();
     }
 
@@ -5,10 +5,11 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's appointment in the address book.
@@ -31,6 +32,12 @@ public class Appointment implements Comparable<Appointment> {
     private static final String END_TIME = HOUR + ":" + MINUTE;
     private static final String DAY = "[A-z]{3}";
     public static final String VALIDATION_REGEX = START_TIME + "-" + END_TIME + "[\\s]+" + DAY;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int TIMES_LENGTH = 11;
+    private static final int DAY_LENGTH = 3;
+    private static final int INVALID = -1;
+    private static final int DURATION_BITS = 11;
+    private static final int DURATION_MASK = (1 << DURATION_BITS) - 1;
 
     // initialize map from String to DayOfWeek
     static {
@@ -53,10 +60,14 @@ public class Appointment implements Comparable<Appointment> {
         DAY_OF_WEEK_TO_NUM.put(DayOfWeek.SUNDAY, 7);
     }
 
-    public final String value;
-    private final LocalTime startTime;
-    private final LocalTime endTime;
-    private final DayOfWeek day;
+    // built from packed when first needed if the appointment was created by fromPacked
+    private String value;
+    /**
+     * The minute of the week at which the appointment starts, counted from midnight on Monday, followed by the
+     * duration of the appointment in minutes in the lowest {@link #DURATION_BITS} bits.
+     * Comparing the packed values orders appointments by start, then by duration.
+     */
+    private final int packed;
 
     /**
      * Constructs a {@code Appointment}.
@@ -65,96 +76,208 @@ public class Appointment implements Comparable<Appointment> {
      */
     public Appointment(String appointment) {
         requireNonNull(appointment);
-        checkArgument(isValidAppointment(appointment), MESSAGE_CONSTRAINTS);
+        int packed = parse(appointment);
+        checkArgument(packed != INVALID, MESSAGE_CONSTRAINTS);
+
+        value = appointment.toUpperCase(Locale.ROOT);
+        this.packed = packed;
+    }
 
-        value = appointment.toUpperCase();
-        startTime = LocalTime.parse(extractStartTime(appointment));
-        endTime = LocalTime.parse(extractEndTime(appointment));
-        day = DAY_TO_DAY_OF_WEEK.get(extractDay(appointment));
+    private Appointment(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the appointment starting {@code startMinuteOfWeek} minutes after midnight on Monday and lasting
+     * {@code duration} minutes, without parsing its value, which is only built when first needed.
+     *
+     * @throws IllegalArgumentException if the appointment would be invalid, such as ending on a later day.
+     */
+    public static Appointment fromPacked(int startMinuteOfWeek, int duration) {
+        int startMinute = startMinuteOfWeek % MINUTES_PER_DAY;
+        checkArgument(startMinuteOfWeek >= 0 && startMinuteOfWeek < DayOfWeek.values().length * MINUTES_PER_DAY
+                && duration > 0 && startMinute + duration < MINUTES_PER_DAY, MESSAGE_CONSTRAINTS);
+        return new Appointment((startMinuteOfWeek << DURATION_BITS) | duration);
     }
 
     /**
      * Returns true if a given collection of appointments overlap.
+     *
+     * @see AppointmentOverlapDetector#hasOverlapping(Collection)
      */
     public static boolean hasOverlapping(Collection<Appointment> appointments) {
-        List<Appointment> appointmentList = new ArrayList<>(appointments);
-        int size = appointmentList.size();
-        for (int i = 0; i < size - 1; i += 1) {
-            for (int j = i + 1; j < size; j += 1) {
-                Appointment appointment = appointmentList.get(i);
-                Appointment other = appointmentList.get(j);
-                if (appointment.overlapsWith(other)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return AppointmentOverlapDetector.hasOverlapping(appointments);
     }
 
     /**
      * Returns true if a given string is an appointment.
+     * The string is scanned in place, and accepts the same strings as {@link #VALIDATION_REGEX} with valid times,
+     * a start before the end and a known day.
      */
     public static boolean isValidAppointment(String test) {
-        if (!(test.matches(VALIDATION_REGEX))) {
-            return false;
+        return parse(test) != INVALID;
+    }
+
+    /**
+     * Scans {@code test} once, and returns the start and duration of the appointment it describes packed as in
+     * {@link #packed}, or {@link #INVALID} if it is not a valid appointment.
+     */
+    private static int parse(String test) {
+        int length = test.length();
+        int dayStart = length - DAY_LENGTH;
+        if (dayStart <= TIMES_LENGTH || test.charAt(5) != '-') {
+            return INVALID;
         }
 
-        boolean isStartTimeValid = isValidTime(extractStartTime(test));
-        boolean isEndTimeValid = isValidTime(extractEndTime(test));
+        int startMinutes = scanTime(test, 0);
+        int endMinutes = scanTime(test, 6);
+        if (startMinutes < 0 || endMinutes < 0 || startMinutes >= endMinutes) {
+            return INVALID;
+        }
 
-        if (!isStartTimeValid || !isEndTimeValid) {
-            return false;
+        for (int i = TIMES_LENGTH; i < dayStart; i++) {
+            if (!ValidationUtil.isWhitespace(test.charAt(i))) {
+                return INVALID;
+            }
+        }
+        DayOfWeek day = scanDay(test, dayStart);
+        if (day == null) {
+            return INVALID;
         }
 
-        LocalTime startTime = LocalTime.parse(extractStartTime(test));
-        LocalTime endTime = LocalTime.parse(extractEndTime(test));
-        boolean isStartTimeBeforeEndTime = startTime.isBefore(endTime);
+        int startMinuteOfWeek = day.ordinal() * MINUTES_PER_DAY + startMinutes;
+        return (startMinuteOfWeek << DURATION_BITS) | (endMinutes - startMinutes);
+    }
 
-        String day = extractDay(test);
-        boolean isDayValid = DAY_TO_DAY_OF_WEEK.containsKey(day);
+    /**
+     * Returns the minutes since midnight of the {@code HH:MM} time at {@code start} of {@code test},
+     * or -1 if there is no valid time there.
+     */
+    private static int scanTime(String test, int start) {
+        char hourTens = test.charAt(start);
+        char hourOnes = test.charAt(start + 1);
+        char minuteTens = test.charAt(start + 3);
+        char minuteOnes = test.charAt(start + 4);
+        if (!ValidationUtil.isDigit(hourTens) || !ValidationUtil.isDigit(hourOnes) || test.charAt(start + 2) != ':'
+                || !ValidationUtil.isDigit(minuteTens) || !ValidationUtil.isDigit(minuteOnes)) {
+            return -1;
+        }
 
-        return isStartTimeBeforeEndTime && isDayValid;
+        int hour = (hourTens - '0') * 10 + (hourOnes - '0');
+        int minute = (minuteTens - '0') * 10 + (minuteOnes - '0');
+        if (hour >= 24 || minute >= 60) {
+            return -1;
+        }
+        return hour * 60 + minute;
     }
 
-    private static boolean isValidTime(String appointment) {
-        int hour = Integer.parseInt(appointment.substring(0, 2));
-        int minute = Integer.parseInt(appointment.substring(3, 5));
+    /**
+     * Returns the day named by the three letters at {@code start} of {@code test}, in any case,
+     * or null if they do not name a day.
+     */
+    private static DayOfWeek scanDay(String test, int start) {
+        for (int i = start; i < start + DAY_LENGTH; i++) {
+            char c = test.charAt(i);
+            if (c < 'A' || c > 'z') {
+                return null;
+            }
+        }
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (test.regionMatches(true, start, day.name(), 0, DAY_LENGTH)) {
+                return day;
+            }
+        }
+        return null;
+    }
 
-        assert(hour > -1);
-        assert(minute > -1);
-        boolean hourValid = hour < 24;
-        boolean minuteValid = minute < 60;
+    /**
+     * Returns the minute of the week at which the appointment starts, counted from midnight on Monday.
+     */
+    public int getStartMinuteOfWeek() {
+        return packed >>> DURATION_BITS;
+    }
 
-        return hourValid && minuteValid;
+    /**
+     * Returns the minute of the week at which the appointment ends, counted from midnight on Monday.
+     */
+    public int getEndMinuteOfWeek() {
+        return getStartMinuteOfWeek() + getDuration();
     }
 
-    private static String extractStartTime(String appointment) {
-        return appointment.substring(0, 5);
+    /**
+     * Returns the minute of the day at which the appointment starts.
+     */
+    public int getStartMinute() {
+        return getStartMinuteOfWeek() % MINUTES_PER_DAY;
     }
 
-    private static String extractEndTime(String appointment) {
-        return appointment.substring(6, 11);
+    /**
+     * Returns the minute of the day at which the appointment ends.
+     */
+    public int getEndMinute() {
+        return getStartMinute() + getDuration();
     }
 
-    private static String extractDay(String appointment) {
-        return appointment.substring(12).trim().toUpperCase();
+    /**
+     * Returns the length of the appointment in minutes.
+     */
+    public int getDuration() {
+        return packed & DURATION_MASK;
     }
 
+    /**
+     * Returns the time at which the appointment starts.
+     * Prefer {@link #getStartMinute()} where a {@code LocalTime} is not needed, since this creates one.
+     */
     public LocalTime getStartTime() {
-        return startTime;
+        return toLocalTime(getStartMinute());
     }
 
+    /**
+     * Returns the time at which the appointment ends.
+     * Prefer {@link #getEndMinute()} where a {@code LocalTime} is not needed, since this creates one.
+     */
     public LocalTime getEndTime() {
-        return endTime;
+        return toLocalTime(getEndMinute());
+    }
+
+    /**
+     * Returns the appointment in the form typed by users, in upper case.
+     */
+    public String getValue() {
+        // racing threads build equal strings, so the value can be cached without locking
+        String value = this.value;
+        if (value == null) {
+            StringBuilder builder = new StringBuilder(TIMES_LENGTH + 1 + DAY_LENGTH);
+            appendTime(builder, getStartMinute());
+            builder.append('-');
+            appendTime(builder, getEndMinute());
+            builder.append(' ').append(getDay().name(), 0, DAY_LENGTH);
+            value = builder.toString();
+            this.value = value;
+        }
+        return value;
+    }
+
+    private static void appendTime(StringBuilder builder, int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        builder.append((char) ('0' + hour / 10)).append((char) ('0' + hour % 10)).append(':')
+                .append((char) ('0' + minute / 10)).append((char) ('0' + minute % 10));
     }
 
     public DayOfWeek getDay() {
-        return day;
+        return DayOfWeek.of(getStartMinuteOfWeek() / MINUTES_PER_DAY + 1);
+    }
+
+    private static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -168,42 +291,30 @@ public class Appointment implements Comparable<Appointment> {
             return false;
         }
 
+        // the packed start and duration follow from the value, and are cheaper to compare
         Appointment otherAppointment = (Appointment) other;
-        return value.equals(otherAppointment.value);
+        return packed == otherAppointment.packed && getValue().equals(otherAppointment.getValue());
     }
 
     /**
      * Return true if appointment overlaps with other, otherwise False
      */
     public boolean overlapsWith(Appointment other) {
-        // days are different
-        if (this.day != other.day) {
-            return false;
-        }
-
-        // intervals overlap
-        if (this.startTime.isBefore(other.endTime) && other.startTime.isBefore(this.endTime)) {
-            return true;
-        } else if (other.startTime.isBefore(this.endTime) && this.startTime.isBefore(other.endTime)) {
-            return true;
-        }
-
-        return false;
+        // appointments end on the day they start, so appointments on different days never overlap here
+        return getStartMinuteOfWeek() < other.getEndMinuteOfWeek()
+                && other.getStartMinuteOfWeek() < getEndMinuteOfWeek();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(packed);
     }
 
+    /**
+     * Orders appointments by day, then by start time, then by end time.
+     */
     @Override
     public int compareTo(Appointment o) {
-        if (DAY_OF_WEEK_TO_NUM.get(this.day) < DAY_OF_WEEK_TO_NUM.get(o.day)) {
-            return -1;
-        } else if (DAY_OF_WEEK_TO_NUM.get(this.day) > DAY_OF_WEEK_TO_NUM.get(o.day)) {
-            return 1;
-        } else {
-            return this.startTime.compareTo(o.startTime);
-        }
+        return Integer.compare(packed, o.packed);
     }
 }
@@ -16,6 +16,10 @@ public class AppointmentIsDayOfWeekPredicate implements Predicate<Appointment> {
         this.days = dayOfWeeks;
     }
 
+    public List<DayOfWeek> getDays() {
+        return days;
+    }
+
     @Override
     public boolean test(Appointment appointment) {
         return days.stream().anyMatch(day -> day.equals(appointment.getDay()));
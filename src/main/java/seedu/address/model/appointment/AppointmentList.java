@@ -17,9 +17,21 @@ import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
  * Supports a minimal set of list operations.
  */
 public class AppointmentList implements Iterable<Appointment> {
-    protected final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
-    protected final ObservableList<Appointment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    protected final ObservableList<Appointment> internalList;
+    protected final ObservableList<Appointment> internalUnmodifiableList;
+
+    public AppointmentList() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Creates an {@code AppointmentList} backed by {@code internalList}.
+     */
+    protected AppointmentList(ObservableList<Appointment> internalList) {
+        requireNonNull(internalList);
+        this.internalList = internalList;
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
 
     /**
      * Adds an appointment to the list.
@@ -0,0 +1,68 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import javafx.util.Pair;
+
+/**
+ * Detects overlapping appointments in a collection by sweeping over them in order of day and start time.
+ * The sweep compares the minutes of the week at which appointments start and end, which already separate days.
+ *
+ * Checking whether any two appointments overlap takes O(n log n) time, and reporting every overlapping pair
+ * takes O(n log n + k) time, where k is the number of overlapping pairs.
+ */
+public class AppointmentOverlapDetector {
+
+    /**
+     * Returns true if any two appointments in {@code appointments} overlap.
+     */
+    public static boolean hasOverlapping(Collection<Appointment> appointments) {
+        requireNonNull(appointments);
+        List<Appointment> sortedAppointments = sortByDayThenStartTime(appointments);
+
+        int latestEnd = Integer.MIN_VALUE;
+        for (Appointment appointment : sortedAppointments) {
+            if (appointment.getStartMinuteOfWeek() < latestEnd) {
+                return true;
+            }
+            latestEnd = Math.max(latestEnd, appointment.getEndMinuteOfWeek());
+        }
+        return false;
+    }
+
+    /**
+     * Returns every pair of overlapping appointments in {@code appointments}.
+     * Within each pair, the key is the appointment that comes first in order of day and start time.
+     */
+    public static List<Pair<Appointment, Appointment>> findOverlappingPairs(Collection<Appointment> appointments) {
+        requireNonNull(appointments);
+        List<Appointment> sortedAppointments = sortByDayThenStartTime(appointments);
+
+        List<Pair<Appointment, Appointment>> overlappingPairs = new ArrayList<>();
+        // appointments that have not ended yet, earliest end first
+        PriorityQueue<Appointment> ongoingAppointments =
+                new PriorityQueue<>(Comparator.comparingInt(Appointment::getEndMinuteOfWeek));
+        for (Appointment appointment : sortedAppointments) {
+            while (!ongoingAppointments.isEmpty() && !ongoingAppointments.peek().overlapsWith(appointment)) {
+                ongoingAppointments.poll();
+            }
+            for (Appointment ongoingAppointment : ongoingAppointments) {
+                overlappingPairs.add(new Pair<>(ongoingAppointment, appointment));
+            }
+            ongoingAppointments.add(appointment);
+        }
+        return overlappingPairs;
+    }
+
+    private static List<Appointment> sortByDayThenStartTime(Collection<Appointment> appointments) {
+        List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+        sortedAppointments.sort(Comparator.naturalOrder());
+        return sortedAppointments;
+    }
+}
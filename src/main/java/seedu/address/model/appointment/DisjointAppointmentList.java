@@ -3,8 +3,12 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
@@ -12,17 +16,49 @@ import seedu.address.model.appointment.exceptions.OverlappingAppointmentExceptio
 /**
  * A list of appointments that enforces no overlapping between its elements and does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * Overlap checks are answered by a {@code WeeklyOccupancy} bitmap that is kept in sync with the list, so they do
+ * not scan the list. The bitmap also finds the free time between the appointments.
+ *
+ * The list is kept sorted by the appointment's natural comparator. Appointments are inserted and located by
+ * binary search, and each modification of the list notifies its listeners once.
  */
 public class DisjointAppointmentList extends AppointmentList {
     public static final String MESSAGE_CONSTRAINTS =
             "This person's appointments clash with an existing appointment";
 
+    private final ChangeBatchingObservableList<Appointment> sortedList;
+    private final WeeklyOccupancy occupancy = new WeeklyOccupancy();
+
+    public DisjointAppointmentList() {
+        this(new ChangeBatchingObservableList<>());
+    }
+
+    private DisjointAppointmentList(ChangeBatchingObservableList<Appointment> sortedList) {
+        super(sortedList);
+        this.sortedList = sortedList;
+    }
+
     /**
      * Returns true if the list contains an appointment overlapping wth the given argument.
      */
     public boolean overlaps(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::overlapsWith);
+        return occupancy.overlaps(toCheck);
+    }
+
+    @Override
+    public boolean contains(Appointment toCheck) {
+        requireNonNull(toCheck);
+        return indexOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the periods on {@code day} of at least {@code minDuration} minutes without any appointment, in order.
+     */
+    public List<TimeSlot> findFreeSlots(DayOfWeek day, int minDuration) {
+        requireNonNull(day);
+        return occupancy.findFreeSlots(day, minDuration);
     }
 
     @Override
@@ -30,6 +66,12 @@ public class DisjointAppointmentList extends AppointmentList {
         return false;
     }
 
+    /**
+     * Does nothing, since the list is always sorted.
+     */
+    @Override
+    public void sort() {}
+
     /**
      * Adds an appointment {@code toAdd} to the list.
      * This appointment must not overlap with existing appointments in the list.
@@ -40,7 +82,7 @@ public class DisjointAppointmentList extends AppointmentList {
         if (overlaps(toAdd)) {
             throw new OverlappingAppointmentException();
         }
-        internalList.add(toAdd);
+        insert(toAdd);
     }
 
     /**
@@ -52,8 +94,8 @@ public class DisjointAppointmentList extends AppointmentList {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = indexOf(target);
+        if (targetIndex == -1) {
             throw new AppointmentNotFoundException();
         }
 
@@ -61,7 +103,10 @@ public class DisjointAppointmentList extends AppointmentList {
             throw new OverlappingAppointmentException();
         }
 
-        internalList.set(index, editedAppointment);
+        sortedList.batch(() -> {
+            delete(targetIndex);
+            insert(editedAppointment);
+        });
     }
 
     /**
@@ -70,9 +115,52 @@ public class DisjointAppointmentList extends AppointmentList {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int toRemoveIndex = indexOf(toRemove);
+        if (toRemoveIndex == -1) {
             throw new AppointmentNotFoundException();
         }
+        delete(toRemoveIndex);
+    }
+
+    /**
+     * Removes the equivalent appointments of {@code toRemove} from the list.
+     * Every appointment in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Appointment> toRemove) {
+        requireAllNonNull(toRemove);
+        replace(toRemove, Collections.emptyList());
+    }
+
+    /**
+     * Replaces the appointments {@code targets} in the list with {@code editedAppointments}.
+     * Every appointment in {@code targets} must exist in the list.
+     * {@code editedAppointments} must not overlap with each other or with the other existing appointments in the list.
+     * The list is left unchanged if either condition is violated.
+     */
+    public void replace(Collection<Appointment> targets, Collection<Appointment> editedAppointments) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedAppointments);
+
+        for (Appointment target : targets) {
+            if (!contains(target)) {
+                throw new AppointmentNotFoundException();
+            }
+        }
+
+        targets.forEach(occupancy::remove);
+        boolean isOverlapping = Appointment.hasOverlapping(editedAppointments)
+                || editedAppointments.stream().anyMatch(occupancy::overlaps);
+        targets.forEach(occupancy::add);
+        if (isOverlapping) {
+            throw new OverlappingAppointmentException();
+        }
+
+        sortedList.batch(() -> {
+            for (Appointment target : targets) {
+                delete(indexOf(target));
+            }
+            editedAppointments.forEach(this::insert);
+        });
     }
 
     /**
@@ -81,6 +169,17 @@ public class DisjointAppointmentList extends AppointmentList {
     public void setAppointments(DisjointAppointmentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        occupancy.setAll(internalList);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code appointments}.
+     * {@code replacement} must not contain overlapping appointments.
+     */
+    @Override
+    public void setAppointments(AppointmentList replacement) {
+        requireNonNull(replacement);
+        setAppointments(replacement.internalList);
     }
 
     /**
@@ -94,7 +193,10 @@ public class DisjointAppointmentList extends AppointmentList {
             throw new OverlappingAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+        Collections.sort(sortedAppointments);
+        internalList.setAll(sortedAppointments);
+        occupancy.setAll(internalList);
     }
 
     /**
@@ -102,15 +204,7 @@ public class DisjointAppointmentList extends AppointmentList {
      * and also overlap with each other.
      */
     public void addAll(Collection<Appointment> appointments) {
-        if (Appointment.hasOverlapping(appointments)) {
-            throw new OverlappingAppointmentException();
-        }
-        for (Appointment ap : appointments) {
-            if (this.overlaps(ap)) {
-                throw new OverlappingAppointmentException();
-            }
-        }
-        internalList.addAll(appointments);
+        replace(Collections.emptyList(), appointments);
     }
 
     public boolean isEmpty() {
@@ -121,4 +215,27 @@ public class DisjointAppointmentList extends AppointmentList {
     public Iterator<Appointment> iterator() {
         return internalList.iterator();
     }
+
+    /**
+     * Returns the position of {@code toFind} in the list, or -1 if the list does not contain it.
+     */
+    private int indexOf(Appointment toFind) {
+        int position = Collections.binarySearch(internalList, toFind);
+        return position >= 0 && internalList.get(position).equals(toFind) ? position : -1;
+    }
+
+    /**
+     * Inserts {@code toInsert}, which must not overlap with any appointment in the list, at its sorted position.
+     */
+    private void insert(Appointment toInsert) {
+        int position = Collections.binarySearch(internalList, toInsert);
+        // disjoint appointments never start on the same day and time
+        assert position < 0;
+        internalList.add(-position - 1, toInsert);
+        occupancy.add(toInsert);
+    }
+
+    private void delete(int position) {
+        occupancy.remove(internalList.remove(position));
+    }
 }
@@ -0,0 +1,81 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.util.Objects;
+
+/**
+ * Represents a period of time within one day of the week, such as a free period between appointments.
+ * Unlike an {@code Appointment}, a time slot may end at midnight at the end of its day.
+ * Guarantees: immutable; starts before it ends.
+ */
+public class TimeSlot {
+
+    public static final String MESSAGE_CONSTRAINTS = "A time slot must start before it ends, within one day";
+
+    private final DayOfWeek day;
+    private final int startMinute;
+    private final int endMinute;
+
+    /**
+     * Constructs a {@code TimeSlot} on {@code day} from {@code startMinute} to {@code endMinute},
+     * both counted in minutes from the start of the day.
+     */
+    public TimeSlot(DayOfWeek day, int startMinute, int endMinute) {
+        requireNonNull(day);
+        checkArgument(0 <= startMinute && startMinute < endMinute && endMinute <= Appointment.MINUTES_PER_DAY,
+                MESSAGE_CONSTRAINTS);
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public int getDuration() {
+        return endMinute - startMinute;
+    }
+
+    /**
+     * Returns the time slot in the form {@code DAY HH:MM-HH:MM}, with midnight at its end shown as 24:00.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %02d:%02d-%02d:%02d", day.name().substring(0, 3),
+                startMinute / 60, startMinute % 60, endMinute / 60, endMinute % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherTimeSlot = (TimeSlot) other;
+        return day == otherTimeSlot.day
+                && startMinute == otherTimeSlot.startMinute
+                && endMinute == otherTimeSlot.endMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, startMinute, endMinute);
+    }
+}
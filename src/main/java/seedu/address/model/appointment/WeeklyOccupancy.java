@@ -0,0 +1,170 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Marks the minutes of the week that are taken up by a set of pairwise non-overlapping appointments.
+ *
+ * Each minute of the week is one bit of a {@code long[]}, so checking or marking an appointment touches one word
+ * for every 64 minutes of its duration, and free time is found by skipping over whole words at a time.
+ */
+public class WeeklyOccupancy {
+
+    public static final int MINUTES_PER_WEEK = 7 * Appointment.MINUTES_PER_DAY;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+    private static final long WORD_MASK = -1L;
+
+    private final long[] words = new long[(MINUTES_PER_WEEK + BITS_PER_WORD - 1) / BITS_PER_WORD];
+
+    /**
+     * Returns true if any minute of {@code toCheck} is taken up by an appointment.
+     */
+    public boolean overlaps(Appointment toCheck) {
+        requireNonNull(toCheck);
+        int from = toCheck.getStartMinuteOfWeek();
+        int to = toCheck.getEndMinuteOfWeek();
+
+        int firstWord = from >>> ADDRESS_BITS_PER_WORD;
+        int lastWord = (to - 1) >>> ADDRESS_BITS_PER_WORD;
+        long firstWordMask = WORD_MASK << from;
+        long lastWordMask = WORD_MASK >>> -to;
+        if (firstWord == lastWord) {
+            return (words[firstWord] & firstWordMask & lastWordMask) != 0;
+        }
+
+        if ((words[firstWord] & firstWordMask) != 0) {
+            return true;
+        }
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return (words[lastWord] & lastWordMask) != 0;
+    }
+
+    /**
+     * Marks the minutes of {@code toAdd} as taken.
+     * {@code toAdd} must not overlap with any appointment already added.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        assert !overlaps(toAdd);
+        setRange(toAdd.getStartMinuteOfWeek(), toAdd.getEndMinuteOfWeek(), true);
+    }
+
+    /**
+     * Marks the minutes of {@code toRemove} as free.
+     * {@code toRemove} must have been added before, or the minutes of another appointment may be freed.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        setRange(toRemove.getStartMinuteOfWeek(), toRemove.getEndMinuteOfWeek(), false);
+    }
+
+    /**
+     * Replaces the taken minutes with those of {@code appointments}.
+     * {@code appointments} must not contain overlapping appointments.
+     */
+    public void setAll(Iterable<Appointment> appointments) {
+        requireNonNull(appointments);
+        Arrays.fill(words, 0);
+        for (Appointment appointment : appointments) {
+            add(appointment);
+        }
+    }
+
+    /**
+     * Returns the free periods on {@code day} that are at least {@code minDuration} minutes long, in order.
+     */
+    public List<TimeSlot> findFreeSlots(DayOfWeek day, int minDuration) {
+        requireNonNull(day);
+        int dayStart = day.ordinal() * Appointment.MINUTES_PER_DAY;
+        int dayEnd = dayStart + Appointment.MINUTES_PER_DAY;
+
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        int freeStart = nextFreeMinute(dayStart, dayEnd);
+        while (freeStart < dayEnd) {
+            int freeEnd = nextTakenMinute(freeStart, dayEnd);
+            if (freeEnd - freeStart >= minDuration) {
+                freeSlots.add(new TimeSlot(day, freeStart - dayStart, freeEnd - dayStart));
+            }
+            freeStart = nextFreeMinute(freeEnd, dayEnd);
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns the first taken minute in {@code [from, to)}, or {@code to} if every minute in it is free.
+     */
+    private int nextTakenMinute(int from, int to) {
+        if (from >= to) {
+            return to;
+        }
+
+        int wordIndex = from >>> ADDRESS_BITS_PER_WORD;
+        long word = words[wordIndex] & (WORD_MASK << from);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex << ADDRESS_BITS_PER_WORD >= to) {
+                return to;
+            }
+            word = words[wordIndex];
+        }
+        return Math.min((wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word), to);
+    }
+
+    /**
+     * Returns the first free minute in {@code [from, to)}, or {@code to} if every minute in it is taken.
+     */
+    private int nextFreeMinute(int from, int to) {
+        if (from >= to) {
+            return to;
+        }
+
+        int wordIndex = from >>> ADDRESS_BITS_PER_WORD;
+        long word = ~words[wordIndex] & (WORD_MASK << from);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex << ADDRESS_BITS_PER_WORD >= to) {
+                return to;
+            }
+            word = ~words[wordIndex];
+        }
+        return Math.min((wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word), to);
+    }
+
+    /**
+     * Sets the bits of the minutes in {@code [from, to)} to {@code isTaken}.
+     */
+    private void setRange(int from, int to, boolean isTaken) {
+        int firstWord = from >>> ADDRESS_BITS_PER_WORD;
+        int lastWord = (to - 1) >>> ADDRESS_BITS_PER_WORD;
+        // shifts only use the lowest six bits of the distance, which is the position within the word
+        long firstWordMask = WORD_MASK << from;
+        long lastWordMask = WORD_MASK >>> -to;
+        if (firstWord == lastWord) {
+            setBits(firstWord, firstWordMask & lastWordMask, isTaken);
+            return;
+        }
+
+        setBits(firstWord, firstWordMask, isTaken);
+        Arrays.fill(words, firstWord + 1, lastWord, isTaken ? WORD_MASK : 0);
+        setBits(lastWord, lastWordMask, isTaken);
+    }
+
+    private void setBits(int wordIndex, long mask, boolean isTaken) {
+        if (isTaken) {
+            words[wordIndex] |= mask;
+        } else {
+            words[wordIndex] &= ~mask;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Indexes the appointments of persons by their day of the week, together with the person who has each of them,
+ * so that the appointments on some days are listed in order without collecting and sorting the appointments of
+ * every person.
+ *
+ * Each day has a bucket of its appointments kept sorted by time. The buckets cover separate parts of the week,
+ * so the appointments on several days are merged in order by reading their buckets in order of the days.
+ * Appointments at the same time, which an address book does not allow but a list of persons does not prevent,
+ * are ordered by the lower-case names of their owners, which are unique within a list of persons.
+ */
+class AppointmentOwnerIndex {
+
+    private static final Comparator<OwnedAppointment> APPOINTMENT_ORDER =
+            Comparator.comparing(OwnedAppointment::getAppointment)
+                    .thenComparing(ownedAppointment -> ownedAppointment.getOwner().getName().getFullNameLowerCase());
+
+    private final List<NavigableSet<OwnedAppointment>> appointmentsByDay = new ArrayList<>();
+
+    /**
+     * Creates an empty index.
+     */
+    AppointmentOwnerIndex() {
+        for (int i = 0; i < DayOfWeek.values().length; i++) {
+            appointmentsByDay.add(new TreeSet<>(APPOINTMENT_ORDER));
+        }
+    }
+
+    /**
+     * Indexes the appointments of {@code toAdd} as owned by it.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (Appointment appointment : toAdd.getAppointments().asUnmodifiableObservableList()) {
+            getBucket(appointment.getDay()).add(new OwnedAppointment(appointment, toAdd));
+        }
+    }
+
+    /**
+     * Removes the appointments of {@code toRemove} from the index.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (Appointment appointment : toRemove.getAppointments().asUnmodifiableObservableList()) {
+            getBucket(appointment.getDay()).remove(new OwnedAppointment(appointment, toRemove));
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the appointments of {@code persons}.
+     */
+    public void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        appointmentsByDay.forEach(NavigableSet::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the appointments on any of {@code days} whose owners satisfy {@code ownerFilter},
+     * ordered by day and then by time.
+     */
+    public List<OwnedAppointment> find(Collection<DayOfWeek> days, Predicate<? super Person> ownerFilter) {
+        requireAllNonNull(days, ownerFilter);
+        if (days.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<OwnedAppointment> appointments = new ArrayList<>();
+        // iterating over an EnumSet visits the days in order from Monday, once each
+        for (DayOfWeek day : EnumSet.copyOf(days)) {
+            for (OwnedAppointment ownedAppointment : getBucket(day)) {
+                if (ownerFilter.test(ownedAppointment.getOwner())) {
+                    appointments.add(ownedAppointment);
+                }
+            }
+        }
+        return appointments;
+    }
+
+    private NavigableSet<OwnedAppointment> getBucket(DayOfWeek day) {
+        return appointmentsByDay.get(day.ordinal());
+    }
+}
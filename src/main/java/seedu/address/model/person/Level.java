@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.Objects;
+
 /**
  * Represents a Person's level in the address book.
  * Guarantees: immutable; is always valid
@@ -28,6 +30,26 @@ public class Level {
         return internalLevel.toString();
     }
 
+    /**
+     * Returns the position of this level among all levels, which does not change between versions of the app.
+     */
+    public int getOrdinal() {
+        return internalLevel.ordinal();
+    }
+
+    /**
+     * Returns the level at position {@code ordinal} among all levels.
+     *
+     * @throws IllegalArgumentException if there is no level at {@code ordinal}.
+     */
+    public static Level fromOrdinal(int ordinal) {
+        LevelEnum[] values = LevelEnum.values();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return new Level(values[ordinal].name());
+    }
+
     /**
      * Returns if a given string is a valid level.
      */
@@ -45,6 +67,11 @@ public class Level {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(internalLevel);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Lower-case form of {@link #fullName}, used for case-insensitive comparisons. */
+    private final String fullNameLowerCase;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +34,23 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        fullNameLowerCase = name.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
+    /**
+     * Returns the name in lower case.
+     * Two names are equal if and only if their lower-case forms are equal.
+     */
+    public String getFullNameLowerCase() {
+        return fullNameLowerCase;
+    }
 
     @Override
     public String toString() {
@@ -56,14 +69,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        String fullNameLower = fullName.toLowerCase();
-        String otherNameLower = otherName.fullName.toLowerCase();
-        return fullNameLower.equals(otherNameLower);
+        return fullNameLowerCase.equals(otherName.fullNameLowerCase);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return fullNameLowerCase.hashCode();
     }
 
 }
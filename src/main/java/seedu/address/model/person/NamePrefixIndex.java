@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the names of persons sorted by their lower-case forms, so that the names starting with a prefix are
+ * found by a binary search for the prefix followed by a walk over the names after it.
+ *
+ * The index may be searched from any thread while it is being updated, as a search only needs to see a
+ * recent state of the names.
+ */
+class NamePrefixIndex {
+
+    private final ConcurrentNavigableMap<String, String> namesByLowerCaseName = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds {@code name} to the index, replacing any name that is the same ignoring case.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        namesByLowerCaseName.put(name.getFullNameLowerCase(), name.fullName);
+    }
+
+    /**
+     * Removes the name that is the same as {@code name} ignoring case from the index.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        namesByLowerCaseName.remove(name.getFullNameLowerCase());
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        namesByLowerCaseName.clear();
+        for (Person person : persons) {
+            add(person.getName());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} names that start with {@code prefix} ignoring case, in alphabetical order
+     * ignoring case.
+     */
+    public List<String> find(String prefix, int limit) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase();
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, String> entry : namesByLowerCaseName.tailMap(lowerCasePrefix).entrySet()) {
+            if (names.size() >= limit || !entry.getKey().startsWith(lowerCasePrefix)) {
+                break;
+            }
+            names.add(entry.getValue());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes persons by the words in their names, ignoring case, so that the persons whose names contain a word
+ * can be found with a single hash lookup instead of splitting every name in the list.
+ *
+ * Persons are held by identity, so a person must be removed using the same object that was added.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+
+    /**
+     * Returns {@code word} in the form that words are indexed in, such that two words have the same form
+     * if and only if they are equal ignoring case as in {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        StringBuilder foldedWord = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            foldedWord.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return foldedWord.toString();
+    }
+
+    /**
+     * Indexes {@code toAdd} under each word of its name.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (String token : getTokens(toAdd)) {
+            personsByToken.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(toAdd);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be the same object that was added, from the index.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (String token : getTokens(toRemove)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(toRemove);
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByToken.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the indexed persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matchingPersons.addAll(personsByToken.getOrDefault(foldCase(keyword), Collections.emptySet()));
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the words in the name of {@code person}, which names separate with spaces, in their indexed form.
+     */
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().getFullNameLowerCase().split(" ")) {
+            if (!word.isEmpty()) {
+                tokens.add(foldCase(word));
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes names by their normalized form, i.e. without whitespace and in lower case,
+ * so that names which differ only in spacing or case can be found with a single hash lookup.
+ *
+ * Normalized names are also indexed by their bigrams, i.e. pairs of adjacent characters. Since each edit changes
+ * at most two bigrams of a name, a name within a given edit distance of a query shares a known number of bigrams
+ * with it, so the edit distance only has to be computed for the few names that share that many bigrams.
+ */
+class NearDuplicateNameIndex {
+
+    /** Pads normalized names, so that their first and last characters are in bigrams of their own. */
+    private static final char BOUNDARY = '\0';
+
+    private final Map<String, List<String>> namesByNormalizedName = new HashMap<>();
+    // each distinct normalized name has an id, which is reused once the normalized name is removed
+    private final List<String> normalizedNamesById = new ArrayList<>();
+    private final Map<String, Integer> idsByNormalizedName = new HashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<String, IdList> idsByBigram = new HashMap<>();
+
+    /**
+     * Returns {@code name} without whitespace and in lower case.
+     */
+    public static String normalize(String name) {
+        requireNonNull(name);
+        StringBuilder normalizedName = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalizedName.append(c);
+            }
+        }
+        return normalizedName.toString().toLowerCase();
+    }
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(String name) {
+        requireNonNull(name);
+        String normalizedName = normalize(name);
+        List<String> names = namesByNormalizedName.get(normalizedName);
+        if (names == null) {
+            names = new ArrayList<>();
+            namesByNormalizedName.put(normalizedName, names);
+            addBigrams(normalizedName);
+        }
+        names.add(name);
+    }
+
+    /**
+     * Removes {@code name} from the index if it is in the index.
+     */
+    public void remove(String name) {
+        requireNonNull(name);
+        String normalizedName = normalize(name);
+        List<String> names = namesByNormalizedName.get(normalizedName);
+        if (names == null || !names.remove(name)) {
+            return;
+        }
+        if (names.isEmpty()) {
+            namesByNormalizedName.remove(normalizedName);
+            removeBigrams(normalizedName);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code names}.
+     */
+    public void setAll(List<String> names) {
+        requireNonNull(names);
+        namesByNormalizedName.clear();
+        normalizedNamesById.clear();
+        idsByNormalizedName.clear();
+        freeIds.clear();
+        idsByBigram.clear();
+        for (String name : names) {
+            add(name);
+        }
+    }
+
+    /**
+     * Returns the indexed names with the same normalized form as {@code name}.
+     */
+    public List<String> find(String name) {
+        requireNonNull(name);
+        return new ArrayList<>(namesByNormalizedName.getOrDefault(normalize(name), List.of()));
+    }
+
+    /**
+     * Returns the indexed names whose normalized forms are at most {@code maxEditDistance} edits away from
+     * the normalized form of {@code name}.
+     */
+    public List<String> find(String name, int maxEditDistance) {
+        requireNonNull(name);
+        if (maxEditDistance <= 0) {
+            return find(name);
+        }
+
+        String normalizedName = normalize(name);
+        List<String> matches = new ArrayList<>();
+        // the query has one more bigram than characters, and each edit changes at most two of them
+        int minSharedBigrams = normalizedName.length() + 1 - 2 * maxEditDistance;
+        if (minSharedBigrams <= 0) {
+            // the query is too short for its bigrams to rule out any name
+            for (String candidate : normalizedNamesById) {
+                if (candidate != null) {
+                    addIfClose(normalizedName, candidate, maxEditDistance, matches);
+                }
+            }
+            return matches;
+        }
+
+        // a bigram repeated in the query may be counted more often than it is shared, which only adds candidates
+        int[] sharedBigramCounts = new int[normalizedNamesById.size()];
+        for (String bigram : getBigrams(normalizedName)) {
+            IdList ids = idsByBigram.get(bigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int i = 0; i < ids.size; i++) {
+                int id = ids.ids[i];
+                if (++sharedBigramCounts[id] == minSharedBigrams) {
+                    addIfClose(normalizedName, normalizedNamesById.get(id), maxEditDistance, matches);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void addIfClose(String normalizedName, String candidate, int maxEditDistance, List<String> matches) {
+        if (Math.abs(normalizedName.length() - candidate.length()) <= maxEditDistance
+                && editDistance(normalizedName, candidate) <= maxEditDistance) {
+            matches.addAll(namesByNormalizedName.get(candidate));
+        }
+    }
+
+    private void addBigrams(String normalizedName) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = normalizedNamesById.size();
+            normalizedNamesById.add(normalizedName);
+        } else {
+            id = freeIds.pop();
+            normalizedNamesById.set(id, normalizedName);
+        }
+        idsByNormalizedName.put(normalizedName, id);
+        for (String bigram : new HashSet<>(getBigrams(normalizedName))) {
+            idsByBigram.computeIfAbsent(bigram, unused -> new IdList()).add(id);
+        }
+    }
+
+    private void removeBigrams(String normalizedName) {
+        int id = idsByNormalizedName.remove(normalizedName);
+        normalizedNamesById.set(id, null);
+        freeIds.push(id);
+        for (String bigram : new HashSet<>(getBigrams(normalizedName))) {
+            IdList ids = idsByBigram.get(bigram);
+            ids.remove(id);
+            if (ids.size == 0) {
+                idsByBigram.remove(bigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the bigrams of {@code normalizedName} padded with {@link #BOUNDARY}, in order and with repeats.
+     */
+    private static List<String> getBigrams(String normalizedName) {
+        String paddedName = BOUNDARY + normalizedName + BOUNDARY;
+        List<String> bigrams = new ArrayList<>(paddedName.length() - 1);
+        for (int i = 0; i < paddedName.length() - 1; i++) {
+            bigrams.add(paddedName.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}.
+     */
+    static int editDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * A list of distinct ids in no particular order, kept in an array to avoid boxing them while counting bigrams.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * An appointment together with the person who has it.
+ * Guarantees: immutable; fields are not null.
+ */
+public final class OwnedAppointment {
+
+    private final Appointment appointment;
+    private final Person owner;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public OwnedAppointment(Appointment appointment, Person owner) {
+        requireAllNonNull(appointment, owner);
+        this.appointment = appointment;
+        this.owner = owner;
+    }
+
+    public Appointment getAppointment() {
+        return appointment;
+    }
+
+    public Person getOwner() {
+        return owner;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OwnedAppointment)) {
+            return false;
+        }
+
+        OwnedAppointment otherOwnedAppointment = (OwnedAppointment) other;
+        return appointment.equals(otherOwnedAppointment.appointment)
+                && owner.equals(otherOwnedAppointment.owner);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(appointment, owner);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("appointment", appointment)
+                .add("owner", owner.getName())
+                .toString();
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes persons by their tags, subjects and level, so that the persons with a combination of these can be found
+ * by intersecting bitmaps instead of testing every person in the list.
+ *
+ * Each indexed person is given a slot, and each tag, subject and level has a bitmap of the slots of the persons
+ * with it. The slots of removed persons are given to the next persons added, which keeps the bitmaps dense.
+ * Persons are held by identity, so a person must be removed using the same object that was added.
+ */
+class PersonAttributeIndex {
+
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Map<String, BitSet> slotsByTagName = new HashMap<>();
+    private final BitSet[] slotsBySubject = newBitSets(SubjectEnum.values().length);
+    private final BitSet[] slotsByLevel = newBitSets(LevelEnum.values().length);
+
+    /**
+     * Indexes {@code toAdd} under each of its tags, its subjects and its level.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        if (slotsByPerson.containsKey(toAdd)) {
+            return;
+        }
+
+        int slot = usedSlots.nextClearBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(toAdd);
+        } else {
+            personsBySlot.set(slot, toAdd);
+        }
+        usedSlots.set(slot);
+        slotsByPerson.put(toAdd, slot);
+
+        for (Tag tag : toAdd.getTags()) {
+            slotsByTagName.computeIfAbsent(tag.tagName, unused -> new BitSet()).set(slot);
+        }
+        for (Subject subject : toAdd.getSubjects()) {
+            slotsBySubject[subject.getOrdinal()].set(slot);
+        }
+        if (!toAdd.getLevel().isEmpty()) {
+            slotsByLevel[toAdd.getLevel().getOrdinal()].set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be the same object that was added, from the index.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        Integer slot = slotsByPerson.remove(toRemove);
+        if (slot == null) {
+            return;
+        }
+
+        for (Tag tag : toRemove.getTags()) {
+            BitSet slots = slotsByTagName.get(tag.tagName);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByTagName.remove(tag.tagName);
+            }
+        }
+        for (Subject subject : toRemove.getSubjects()) {
+            slotsBySubject[subject.getOrdinal()].clear(slot);
+        }
+        if (!toRemove.getLevel().isEmpty()) {
+            slotsByLevel[toRemove.getLevel().getOrdinal()].clear(slot);
+        }
+
+        personsBySlot.set(slot, null);
+        usedSlots.clear(slot);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        usedSlots.clear();
+        slotsByTagName.clear();
+        clearAll(slotsBySubject);
+        clearAll(slotsByLevel);
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the indexed persons that have any of {@code tags}, any of {@code subjects} and any of {@code levels}.
+     * An empty collection places no restriction on the persons found.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> find(Collection<Tag> tags, Collection<Subject> subjects, Collection<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+
+        BitSet matchingSlots = (BitSet) usedSlots.clone();
+        if (!tags.isEmpty()) {
+            BitSet tagSlots = new BitSet();
+            for (Tag tag : tags) {
+                tagSlots.or(slotsByTagName.getOrDefault(tag.tagName, new BitSet()));
+            }
+            matchingSlots.and(tagSlots);
+        }
+        if (!subjects.isEmpty()) {
+            BitSet subjectSlots = new BitSet();
+            for (Subject subject : subjects) {
+                subjectSlots.or(slotsBySubject[subject.getOrdinal()]);
+            }
+            matchingSlots.and(subjectSlots);
+        }
+        if (!levels.isEmpty()) {
+            BitSet levelSlots = new BitSet();
+            for (Level level : levels) {
+                if (!level.isEmpty()) {
+                    levelSlots.or(slotsByLevel[level.getOrdinal()]);
+                }
+            }
+            matchingSlots.and(levelSlots);
+        }
+
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+            matchingPersons.add(personsBySlot.get(slot));
+        }
+        return matchingPersons;
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+
+    private static void clearAll(BitSet[] bitSets) {
+        for (BitSet bitSet : bitSets) {
+            bitSet.clear();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has any of the tags given, any of the subjects given and any of the levels given.
+ * An empty set of tags, subjects or levels places no restriction on the person.
+ */
+public class PersonHasAttributesPredicate implements Predicate<Person> {
+    private final Set<Tag> tags;
+    private final Set<Subject> subjects;
+    private final Set<Level> levels;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonHasAttributesPredicate(Set<Tag> tags, Set<Subject> subjects, Set<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+        this.tags = tags;
+        this.subjects = subjects;
+        this.levels = levels;
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    public Set<Subject> getSubjects() {
+        return Collections.unmodifiableSet(subjects);
+    }
+
+    public Set<Level> getLevels() {
+        return Collections.unmodifiableSet(levels);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return (tags.isEmpty() || !Collections.disjoint(tags, person.getTags()))
+                && (subjects.isEmpty() || !Collections.disjoint(subjects, person.getSubjects()))
+                && (levels.isEmpty() || (!person.getLevel().isEmpty() && levels.contains(person.getLevel())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonHasAttributesPredicate)) {
+            return false;
+        }
+
+        PersonHasAttributesPredicate otherPredicate = (PersonHasAttributesPredicate) other;
+        return tags.equals(otherPredicate.tags)
+                && subjects.equals(otherPredicate.subjects)
+                && levels.equals(otherPredicate.levels);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("subjects", subjects)
+                .add("levels", levels)
+                .toString();
+    }
+}
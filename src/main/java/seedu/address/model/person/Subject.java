@@ -30,6 +30,26 @@ public class Subject {
         return internalSubject.toString();
     }
 
+    /**
+     * Returns the position of this subject among all subjects, which does not change between versions of the app.
+     */
+    public int getOrdinal() {
+        return internalSubject.ordinal();
+    }
+
+    /**
+     * Returns the subject at position {@code ordinal} among all subjects.
+     *
+     * @throws IllegalArgumentException if there is no subject at {@code ordinal}.
+     */
+    public static Subject fromOrdinal(int ordinal) {
+        SubjectEnum[] values = SubjectEnum.values();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return new Subject(values[ordinal].name());
+    }
+
     /**
      * Returns true if a given string is a valid subject.
      */
@@ -1,5 +1,8 @@
 package seedu.address.model.person;
 
+/**
+ * The order of the values is stored in binary address book files, so new values must be added at the end.
+ */
 enum SubjectEnum {
     ENGLISH, MATH, SCIENCE, MT
 }
@@ -3,15 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -22,6 +29,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Since persons with the same identity have the same lower-case name, the persons in the list are also indexed
+ * by their lower-case names so that identity checks do not scan the list, and by their normalized names so that
+ * near-duplicate names can be found without normalizing every name in the list. The words of their names are also
+ * indexed so that the persons whose names contain given words are found without splitting every name in the list,
+ * and their tags, subjects and levels are indexed so that filtering by them does not test every person.
+ * Their names are also kept sorted so that the names starting with a prefix can be suggested as they are typed,
+ * and their appointments are kept sorted by day and time with their owners so that they can be listed in order.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -29,13 +44,66 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> personsByLowerCaseName = new HashMap<>();
+    private final NearDuplicateNameIndex nearDuplicateNameIndex = new NearDuplicateNameIndex();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final PersonAttributeIndex attributeIndex = new PersonAttributeIndex();
+    private final NamePrefixIndex namePrefixIndex = new NamePrefixIndex();
+    private final AppointmentOwnerIndex appointmentOwnerIndex = new AppointmentOwnerIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByLowerCaseName.containsKey(toLowerCaseName(toCheck));
+    }
+
+    /**
+     * Returns the person in the list whose name is the same as {@code name}, ignoring case, if there is one.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByLowerCaseName.get(name.getFullNameLowerCase()));
+    }
+
+    /**
+     * Returns the persons in the list whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares persons by identity, and so only contains the persons in the list.
+     */
+    public Set<Person> findByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.find(keywords);
+    }
+
+    /**
+     * Returns the persons in the list that have any of {@code tags}, any of {@code subjects} and any of
+     * {@code levels}, where an empty collection places no restriction on the persons found.
+     * The returned set compares persons by identity, and so only contains the persons in the list.
+     */
+    public Set<Person> findByAttributes(Collection<Tag> tags, Collection<Subject> subjects,
+            Collection<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+        return attributeIndex.find(tags, subjects, levels);
+    }
+
+    /**
+     * Returns up to {@code limit} names of persons in the list that start with {@code prefix} ignoring case,
+     * in alphabetical order ignoring case. Unlike the other methods of this list, this may be called from any
+     * thread, such as to suggest names without blocking the UI.
+     */
+    public List<String> findNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return namePrefixIndex.find(prefix, limit);
+    }
+
+    /**
+     * Returns the appointments on any of {@code days} of the persons in the list that satisfy {@code ownerFilter},
+     * together with their owners, ordered by day and then by time.
+     */
+    public List<OwnedAppointment> findAppointments(Collection<DayOfWeek> days, Predicate<? super Person> ownerFilter) {
+        requireAllNonNull(days, ownerFilter);
+        return appointmentOwnerIndex.find(days, ownerFilter);
     }
 
     /**
@@ -43,17 +111,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public List<String> findNearDuplicates(Person toCheck) {
         requireNonNull(toCheck);
-        String toCheckName = normalizeName(toCheck.getName().toString());
-
-        List<String> nearDuplicates = new ArrayList<>();
-        for (String name : getAllNames()) {
-            String normalizedCurrentName = normalizeName(name);
-            if (toCheckName.equals(normalizedCurrentName)) {
-                // Add the "original" duplicate name
-                nearDuplicates.add(name);
-            }
-        }
-        return nearDuplicates;
+        return nearDuplicateNameIndex.find(toCheck.getName().toString());
+    }
+
+    /**
+     * Returns list of names similar to the given person's name, allowing the normalized names to differ
+     * by at most {@code maxEditDistance} insertions, deletions or substitutions.
+     */
+    public List<String> findNearDuplicates(Person toCheck, int maxEditDistance) {
+        requireNonNull(toCheck);
+        return nearDuplicateNameIndex.find(toCheck.getName().toString(), maxEditDistance);
     }
 
     /**
@@ -69,8 +136,7 @@ public class UniquePersonList implements Iterable<Person> {
      * Normalizes names by removing unnecessary whitespaces and lowering the case.
      */
     public String normalizeName(String name) {
-        requireNonNull(name);
-        return name.trim().replaceAll("\\s+", "").toLowerCase();
+        return NearDuplicateNameIndex.normalize(name);
     }
 
     /**
@@ -83,6 +149,40 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByLowerCaseName.put(toLowerCaseName(toAdd), toAdd);
+        nearDuplicateNameIndex.add(toAdd.getName().toString());
+        nameTokenIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+        namePrefixIndex.add(toAdd.getName());
+        appointmentOwnerIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list as a single change, indexing each of them once.
+     * None of {@code persons} may already exist in the list, and {@code persons} must not contain duplicate persons.
+     * The list is left unchanged if either condition is violated.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<String, Person> addedPersonsByLowerCaseName = indexByLowerCaseName(persons);
+        if (addedPersonsByLowerCaseName == null) {
+            throw new DuplicatePersonException();
+        }
+        for (String lowerCaseName : addedPersonsByLowerCaseName.keySet()) {
+            if (personsByLowerCaseName.containsKey(lowerCaseName)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(persons);
+        personsByLowerCaseName.putAll(addedPersonsByLowerCaseName);
+        for (Person person : persons) {
+            nearDuplicateNameIndex.add(person.getName().toString());
+            nameTokenIndex.add(person);
+            attributeIndex.add(person);
+            namePrefixIndex.add(person.getName());
+            appointmentOwnerIndex.add(person);
+        }
     }
 
     /**
@@ -102,7 +202,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = internalList.set(index, editedPerson);
+        personsByLowerCaseName.remove(toLowerCaseName(target));
+        personsByLowerCaseName.put(toLowerCaseName(editedPerson), editedPerson);
+        nearDuplicateNameIndex.remove(replacedPerson.getName().toString());
+        nearDuplicateNameIndex.add(editedPerson.getName().toString());
+        nameTokenIndex.remove(replacedPerson);
+        nameTokenIndex.add(editedPerson);
+        attributeIndex.remove(replacedPerson);
+        attributeIndex.add(editedPerson);
+        namePrefixIndex.remove(replacedPerson.getName());
+        namePrefixIndex.add(editedPerson.getName());
+        appointmentOwnerIndex.remove(replacedPerson);
+        appointmentOwnerIndex.add(editedPerson);
     }
 
     /**
@@ -111,14 +223,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // the index holds the person in the list, which may be a different object equal to toRemove
+        Person removedPerson = internalList.remove(index);
+        personsByLowerCaseName.remove(toLowerCaseName(toRemove));
+        nearDuplicateNameIndex.remove(removedPerson.getName().toString());
+        nameTokenIndex.remove(removedPerson);
+        attributeIndex.remove(removedPerson);
+        namePrefixIndex.remove(removedPerson.getName());
+        appointmentOwnerIndex.remove(removedPerson);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByLowerCaseName.clear();
+        personsByLowerCaseName.putAll(replacement.personsByLowerCaseName);
+        nearDuplicateNameIndex.setAll(replacement.getAllNames());
+        nameTokenIndex.setAll(internalList);
+        attributeIndex.setAll(internalList);
+        namePrefixIndex.setAll(internalList);
+        appointmentOwnerIndex.setAll(internalList);
     }
 
     /**
@@ -127,11 +255,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> replacementPersonsByLowerCaseName = indexByLowerCaseName(persons);
+        if (replacementPersonsByLowerCaseName == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsByLowerCaseName.clear();
+        personsByLowerCaseName.putAll(replacementPersonsByLowerCaseName);
+        nearDuplicateNameIndex.setAll(getAllNames());
+        nameTokenIndex.setAll(internalList);
+        attributeIndex.setAll(internalList);
+        namePrefixIndex.setAll(internalList);
+        appointmentOwnerIndex.setAll(internalList);
     }
 
     /**
@@ -172,16 +308,20 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by their lower-case names,
+     * or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByLowerCaseName(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(toLowerCaseName(person), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    private static String toLowerCaseName(Person person) {
+        return person.getName().getFullNameLowerCase();
     }
 }
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the formats of different {@code AddressBookSnapshotStorage}s,
+ * such as the json file and the binary file.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Saves the address book of {@code source}, including the changes in its journal, to the file of
+     * {@code target}. The journal of {@code target} is no longer replayed once the file is replaced.
+     *
+     * @return false if {@code source} has no address book to convert.
+     * @throws DataLoadingException if the address book of {@code source} could not be read.
+     * @throws IOException if the address book could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookSnapshotStorage source, AddressBookSnapshotStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> addressBook = JournaledAddressBookStorage.read(source, sourceFilePath);
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted address book " + sourceFilePath + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the address book of {@code source} as in {@link #convert}, if it or its journal was modified
+     * more recently than the address book of {@code target}.
+     *
+     * @return true if the address book was converted.
+     */
+    public static boolean convertIfNewer(AddressBookSnapshotStorage source, AddressBookSnapshotStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Path targetFilePath = target.getAddressBookFilePath();
+        if (!Files.exists(sourceFilePath)) {
+            return false;
+        }
+        if (Files.exists(targetFilePath)
+                && JournaledAddressBookStorage.getLastModifiedTime(sourceFilePath)
+                        .compareTo(JournaledAddressBookStorage.getLastModifiedTime(targetFilePath)) <= 0) {
+            return false;
+        }
+
+        return convert(source, target);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the persons and appointments of an address book at a point in time.
+ * Since persons and appointments are immutable, the copy is unaffected by later changes to the address book
+ * and can be read from any thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Appointment> appointments;
+
+    /**
+     * Creates a snapshot of the current contents of {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        appointments = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getAppointmentList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a storage for {@link AddressBook} that saves the whole address book to a single file,
+ * which can be kept up to date by a {@link JournaledAddressBookStorage}.
+ */
+public interface AddressBookSnapshotStorage extends AddressBookStorage {
+
+    /** The journal sequence of a file that was not saved alongside a journal. */
+    long NO_JOURNAL_SEQUENCE = -1;
+
+    /**
+     * Reads the address book in the file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook readSnapshot(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Returns the sequence number of the last journal record included in the file at {@code filePath},
+     * which must exist, or {@link #NO_JOURNAL_SEQUENCE} if it was not saved alongside a journal.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     */
+    long readJournalSequence(Path filePath) throws IOException;
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, and also records in the file that
+     * {@code addressBook} includes the journal records up to {@code journalSequence}.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence) throws IOException;
+
+}
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmptyAddress;
+import seedu.address.model.person.EmptyEmail;
+import seedu.address.model.person.EmptyLevel;
+import seedu.address.model.person.EmptyNote;
+import seedu.address.model.person.EmptyPhone;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an AddressBook from a binary file in the format written by {@link BinaryAddressBookWriter}.
+ *
+ * The file starts with a header of the magic number, the format version and the journal sequence, followed by
+ * the number of persons and the persons themselves, and ends with a CRC32 checksum of everything before it.
+ * Strings are stored as their length followed by their UTF-8 bytes, with a negative length for missing values.
+ * Levels and subjects are stored as their ordinals, and appointments as their day, start and end packed into an int.
+ * The file is read into memory at once rather than through a stream. It is not mapped into memory, since the
+ * mapping would keep the file open until garbage collected, and some platforms cannot replace an open file.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book file is damaged";
+
+    static final int MAGIC = 0x54504142; // "TPAB"
+    static final short FORMAT_VERSION = 1;
+    static final int NO_STRING = -1;
+    static final int NO_LEVEL = -1;
+    static final int UNPACKED_APPOINTMENT = -1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int MINUTES_BITS = 11;
+    private static final int MINUTES_MASK = (1 << MINUTES_BITS) - 1;
+
+    /**
+     * Reads the address book stored at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a binary address book file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer = readFully(filePath);
+        try {
+            AddressBook addressBook = new AddressBook();
+            int personCount = buffer.getInt();
+            for (int i = 0; i < personCount; i++) {
+                JsonSerializableAddressBook.addPerson(addressBook, readPerson(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_NOT_ADDRESS_BOOK, e);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the address book stored at
+     * {@code filePath}, or {@link AddressBookSnapshotStorage#NO_JOURNAL_SEQUENCE} if the address book was not saved
+     * alongside a journal.
+     *
+     * @throws IOException if the file could not be read or is not a binary address book file.
+     */
+    public static long readJournalSequence(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            try {
+                checkHeader(header);
+                return header.getLong();
+            } catch (BufferUnderflowException e) {
+                throw new IOException(MESSAGE_NOT_ADDRESS_BOOK, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath} into memory and checks its header and checksum.
+     * Returns the contents of the file after the header, without the checksum.
+     */
+    private static ByteBuffer readFully(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException(MESSAGE_NOT_ADDRESS_BOOK);
+                }
+            }
+            buffer.flip();
+        }
+
+        checkHeader(buffer);
+
+        int contentsEnd = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(contentsEnd));
+        if ((int) checksum.getValue() != buffer.getInt(contentsEnd)) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        return buffer.position(HEADER_SIZE).limit(contentsEnd);
+    }
+
+    /**
+     * Reads the magic number and format version from {@code buffer}, leaving it at the journal sequence.
+     */
+    private static void checkHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer) throws IllegalValueException {
+        String name = readString(buffer);
+        String phone = readString(buffer);
+        String email = readString(buffer);
+        String address = readString(buffer);
+        String note = readString(buffer);
+        int level = buffer.get();
+
+        // the constructors of the fields still check that the values are valid
+        try {
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = buffer.getInt();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(requireField(readString(buffer), Tag.class)));
+            }
+
+            Set<Subject> subjects = new HashSet<>();
+            int subjectCount = buffer.get();
+            for (int i = 0; i < subjectCount; i++) {
+                subjects.add(Subject.fromOrdinal(buffer.get()));
+            }
+
+            List<Appointment> appointments = new ArrayList<>();
+            int appointmentCount = buffer.getInt();
+            for (int i = 0; i < appointmentCount; i++) {
+                int slot = buffer.getInt();
+                appointments.add(slot == UNPACKED_APPOINTMENT
+                        ? new Appointment(requireField(readString(buffer), Appointment.class))
+                        : toAppointment(slot));
+            }
+            AppointmentList appointmentList = new AppointmentList();
+            appointmentList.addAll(appointments);
+
+            return new Person(new Name(requireField(name, Name.class)),
+                    phone == null ? new EmptyPhone() : new Phone(phone),
+                    email == null ? new EmptyEmail() : new Email(email),
+                    address == null ? new EmptyAddress() : new Address(address),
+                    note == null ? new EmptyNote() : new Note(note),
+                    tags, appointmentList, subjects,
+                    level == NO_LEVEL ? new EmptyLevel() : Level.fromOrdinal(level));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static String requireField(String value, Class<?> fieldClass) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    fieldClass.getSimpleName()));
+        }
+        return value;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the day, start and end of {@code appointment} packed into one non-negative int.
+     */
+    static int toSlot(Appointment appointment) {
+        return (appointment.getDay().getValue() << (2 * MINUTES_BITS)) | (appointment.getStartMinute() << MINUTES_BITS)
+                | appointment.getEndMinute();
+    }
+
+    /**
+     * Returns the appointment packed into {@code slot}.
+     *
+     * @throws IllegalArgumentException if the slot does not hold a valid appointment.
+     */
+    static Appointment toAppointment(int slot) {
+        int day = slot >>> (2 * MINUTES_BITS);
+        int start = (slot >>> MINUTES_BITS) & MINUTES_MASK;
+        int end = slot & MINUTES_MASK;
+        if (day < DayOfWeek.MONDAY.getValue() || day > DayOfWeek.SUNDAY.getValue()) {
+            throw new IllegalArgumentException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        return Appointment.fromPacked((day - 1) * Appointment.MINUTES_PER_DAY + start, end - start);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * The file is faster to load than the json file, but cannot be edited by hand.
+ *
+ * @see BinaryAddressBookReader
+ */
+public class BinaryAddressBookStorage implements AddressBookSnapshotStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int backupCount;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath}.
+     *
+     * @param backupCount the number of previously saved versions of the file to keep.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = Math.max(backupCount, 0);
+    }
+
+    /**
+     * Returns the path of the binary file to keep the address book at {@code filePath} in,
+     * which is {@code filePath} with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(readSnapshot(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, NO_JOURNAL_SEQUENCE);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryAddressBookWriter.write(addressBook, filePath, backupCount, journalSequence);
+    }
+
+    @Override
+    public AddressBook readSnapshot(Path filePath) throws IOException, IllegalValueException {
+        return BinaryAddressBookReader.read(filePath);
+    }
+
+    @Override
+    public long readJournalSequence(Path filePath) throws IOException {
+        return BinaryAddressBookReader.readJournalSequence(filePath);
+    }
+
+}
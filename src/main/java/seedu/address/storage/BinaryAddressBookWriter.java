@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook to a binary file in the format read by {@link BinaryAddressBookReader}.
+ */
+class BinaryAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the contents of the file atomically.
+     *
+     * @param backupCount the number of previous versions of the file to keep.
+     * @param journalSequence the sequence number of the last journal record that {@code addressBook} includes,
+     *     or {@link AddressBookSnapshotStorage#NO_JOURNAL_SEQUENCE} if it is not saved alongside a journal.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, int backupCount, long journalSequence)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, channel -> {
+            OutputStream channelOutput = Channels.newOutputStream(channel);
+            CRC32 checksum = new CRC32();
+            DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(channelOutput, checksum)));
+            write(addressBook, journalSequence, output);
+            output.flush();
+
+            // the checksum covers everything before it, and the channel is closed by the caller
+            new DataOutputStream(channelOutput).writeInt((int) checksum.getValue());
+        }, backupCount);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, long journalSequence, DataOutputStream output)
+            throws IOException {
+        output.writeInt(BinaryAddressBookReader.MAGIC);
+        output.writeShort(BinaryAddressBookReader.FORMAT_VERSION);
+        output.writeLong(journalSequence);
+
+        output.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(person, output);
+        }
+    }
+
+    private static void writePerson(Person person, DataOutputStream output) throws IOException {
+        writeString(person.getName().fullName, output);
+        writeString(person.getPhone().value, output);
+        writeString(person.getEmail().value, output);
+        writeString(person.getAddress().value, output);
+        writeString(person.getNote().value, output);
+        Level level = person.getLevel();
+        output.writeByte(level.isEmpty() ? BinaryAddressBookReader.NO_LEVEL : level.getOrdinal());
+
+        output.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(tag.tagName, output);
+        }
+
+        output.writeByte(person.getSubjects().size());
+        for (Subject subject : person.getSubjects()) {
+            output.writeByte(subject.getOrdinal());
+        }
+
+        output.writeInt(person.getAppointments().asUnmodifiableObservableList().size());
+        for (Appointment appointment : person.getAppointments()) {
+            writeAppointment(appointment, output);
+        }
+    }
+
+    /**
+     * Writes {@code appointment} as its day, start and end packed into one int.
+     * Appointments typed with extra spaces before the day cannot be recreated from their slot, and are written
+     * in full after a marker instead.
+     */
+    private static void writeAppointment(Appointment appointment, DataOutputStream output) throws IOException {
+        int slot = BinaryAddressBookReader.toSlot(appointment);
+        if (BinaryAddressBookReader.toAppointment(slot).equals(appointment)) {
+            output.writeInt(slot);
+        } else {
+            output.writeInt(BinaryAddressBookReader.UNPACKED_APPOINTMENT);
+            writeString(appointment.getValue(), output);
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length in UTF-8 followed by its UTF-8 bytes, or only a negative length
+     * if {@code value} is null.
+     */
+    private static void writeString(String value, DataOutputStream output) throws IOException {
+        if (value == null) {
+            output.writeInt(BinaryAddressBookReader.NO_STRING);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
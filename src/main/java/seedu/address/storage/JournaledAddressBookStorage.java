@@ -0,0 +1,463 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that records changes to the address book in a journal kept next to its data file.
+ *
+ * Saving changes appends one compact json record per change to the journal, so the cost of saving depends on the
+ * changes rather than on the size of the address book. Reading replays the journal on top of the data file.
+ * The journal is split into numbered segments. Once the current segment grows past the compaction threshold,
+ * later records go to a new segment while the whole address book is written to the data file,
+ * after which the older segments are deleted. The data file records the last journal record that it includes,
+ * so no record is replayed twice even if the application stops before the older segments are deleted.
+ *
+ * All writes, including forcing the appended records to disk, are done in order by a single background thread,
+ * so saving does not wait for the disk. Changes that are not yet written when the application dies are lost;
+ * {@link #close()} waits for them when the application stops normally.
+ * Errors while writing are reported to the error handler instead of the caller.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    public static final String MESSAGE_MISSING_RECORDS = "Journal is missing the records after record %d";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String SEGMENT_INFIX = ".journal.";
+
+    private final AddressBookSnapshotStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final ExecutorService writer;
+    private volatile Consumer<IOException> errorHandler = e -> {};
+    // set when the data file and the journal may no longer add up to the last saved address book
+    private volatile boolean isSnapshotOutdated;
+    // set once the current segment has grown past the compaction threshold
+    private volatile boolean isCompactionDue;
+    // only accessed while holding this lock
+    private boolean isSaveScheduled;
+    // the address book of the last save, from which the data file is rewritten on closing if it is outdated
+    private ReadOnlyAddressBook lastSavedAddressBook;
+
+    // the journal is opened when the first save is written, and is then only accessed from the writing thread
+    private FileChannel segment;
+    private int segmentIndex;
+    private long lastSequence;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps the whole address book using {@code snapshotStorage}
+     * and compacts the journal once its current segment reaches {@link #DEFAULT_COMPACTION_THRESHOLD} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookSnapshotStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps the whole address book using {@code snapshotStorage}
+     * and compacts the journal once its current segment reaches {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookSnapshotStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, from the writing thread, whenever the journal or the data file
+     * could not be written.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Returns the path of the {@code index}-th segment of the journal of the address book at {@code filePath}.
+     */
+    public static Path getSegmentPath(Path filePath, int index) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_INFIX + index);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath} and replays its journal on top of it.
+     * The journal is ignored if the data file was not saved alongside a journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return read(snapshotStorage, filePath);
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath} using {@code snapshotStorage},
+     * and replays its journal on top of it.
+     *
+     * @see #readAddressBook(Path)
+     */
+    static Optional<ReadOnlyAddressBook> read(AddressBookSnapshotStorage snapshotStorage, Path filePath)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook addressBook = snapshotStorage.readSnapshot(filePath);
+            long sequence = snapshotStorage.readJournalSequence(filePath);
+            if (sequence == AddressBookSnapshotStorage.NO_JOURNAL_SEQUENCE) {
+                return Optional.of(addressBook);
+            }
+
+            for (Path segmentPath : listSegments(filePath)) {
+                for (JsonAdaptedAddressBookChange record : readSegment(segmentPath)) {
+                    if (record.getSeq() <= sequence) {
+                        continue; // already included in the data file
+                    }
+                    if (record.getSeq() != sequence + 1) {
+                        throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORDS, sequence));
+                    }
+                    record.applyTo(addressBook);
+                    sequence = record.getSeq();
+                }
+            }
+            logger.info("Replayed the journal of " + filePath + " up to record " + sequence);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in address book " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath}.
+     * The address book is written directly if {@code filePath} is not the file of this storage.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        saveAddressBookChanges(addressBook, Collections.emptyList());
+    }
+
+    /**
+     * Schedules {@code changes} to be appended to the journal. A snapshot of {@code addressBook} is scheduled to be
+     * written to the data file instead if there are no changes, or if the data file has to be rewritten.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook,
+            List<AddressBookChange> changes) throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        // whether the data file has to be rewritten is only known once the journal is opened by the first save
+        boolean mayCompact = !isSaveScheduled || isSnapshotOutdated || isCompactionDue || changes.isEmpty();
+        ReadOnlyAddressBook snapshot = mayCompact ? new AddressBookSnapshot(addressBook) : null;
+        List<AddressBookChange> scheduledChanges = new ArrayList<>(changes);
+        isSaveScheduled = true;
+        lastSavedAddressBook = addressBook;
+        writer.execute(() -> write(scheduledChanges, snapshot));
+    }
+
+    /**
+     * Waits for all scheduled writes to finish.
+     */
+    public void flush() throws IOException {
+        runOnWriter(() -> null);
+    }
+
+    /**
+     * Waits for all scheduled writes to finish, then closes the journal and stops the writing thread.
+     * If a write failed since the data file was last written, the data file is first rewritten from the address book
+     * of the last save, so that no saved changes are lost, including those that were not appended after the failure.
+     * No address books can be saved afterwards.
+     *
+     * @throws IOException if the data file had to be rewritten but could not be.
+     */
+    public void close() throws IOException {
+        if (writer.isShutdown()) {
+            return;
+        }
+
+        try {
+            flush();
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                addressBook = lastSavedAddressBook;
+            }
+            if (isSnapshotOutdated && addressBook != null) {
+                ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+                runOnWriter(() -> {
+                    openJournal();
+                    compact(snapshot);
+                    return null;
+                });
+            }
+        } finally {
+            writer.shutdown();
+            // the writing thread is idle, and everything it did is visible here after the flush
+            if (segment != null) {
+                segment.close();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writing thread after all scheduled writes, and waits for it to finish.
+     */
+    private void runOnWriter(Callable<Void> task) throws IOException {
+        try {
+            writer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to the data file if it is given and needed, or else appends {@code changes}
+     * to the journal. Runs on the writing thread.
+     */
+    private void write(List<AddressBookChange> changes, ReadOnlyAddressBook snapshot) {
+        Path filePath = getAddressBookFilePath();
+        try {
+            openJournal();
+            if (snapshot != null && (isSnapshotOutdated || isCompactionDue || changes.isEmpty())) {
+                compact(snapshot);
+            } else if (isSnapshotOutdated) {
+                // an earlier write failed after these changes were scheduled; the next save rewrites the data file
+                logger.warning("Not appending " + changes.size() + " changes to the journal of " + filePath
+                        + " until the data file is rewritten");
+            } else {
+                append(changes);
+                isCompactionDue = segment.size() >= compactionThreshold;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save the address book to " + filePath + ": " + e);
+            isSnapshotOutdated = true;
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Opens a new segment after the existing ones, unless the journal is already open.
+     * The data file must be rewritten before any changes are appended if it was not saved alongside a journal.
+     */
+    private void openJournal() throws IOException {
+        if (segment != null) {
+            return;
+        }
+
+        Path filePath = getAddressBookFilePath();
+        long snapshotSequence = readSnapshotSequence(filePath);
+        isSnapshotOutdated = snapshotSequence == AddressBookSnapshotStorage.NO_JOURNAL_SEQUENCE;
+
+        lastSequence = Math.max(snapshotSequence, 0);
+        segmentIndex = 0;
+        for (Path segmentPath : listSegments(filePath)) {
+            segmentIndex = Math.max(segmentIndex, getSegmentIndex(segmentPath));
+            for (JsonAdaptedAddressBookChange record : readSegment(segmentPath)) {
+                lastSequence = Math.max(lastSequence, record.getSeq());
+            }
+        }
+
+        // never append to an existing segment, which may end with a record that was not completely written
+        openSegment(segmentIndex + 1);
+    }
+
+    /**
+     * Returns the last journal record included in the data file at {@code filePath}, or
+     * {@link AddressBookSnapshotStorage#NO_JOURNAL_SEQUENCE} if there is no usable data file, which is then replaced.
+     */
+    private long readSnapshotSequence(Path filePath) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return AddressBookSnapshotStorage.NO_JOURNAL_SEQUENCE;
+        }
+
+        try {
+            return snapshotStorage.readJournalSequence(filePath);
+        } catch (IOException e) {
+            logger.warning("Could not read the journal sequence of " + filePath + ": " + e);
+            return AddressBookSnapshotStorage.NO_JOURNAL_SEQUENCE;
+        }
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path segmentPath = getSegmentPath(getAddressBookFilePath(), index);
+        FileUtil.createParentDirsOfFile(segmentPath);
+        segment = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentIndex = index;
+    }
+
+    private void append(List<AddressBookChange> changes) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        long sequence = lastSequence;
+        try (JsonGenerator generator = JsonUtil.createGenerator(records, true)) {
+            generator.setRootValueSeparator(null);
+            for (AddressBookChange change : changes) {
+                generator.writeObject(new JsonAdaptedAddressBookChange(++sequence, change));
+                generator.writeRaw('\n');
+            }
+        }
+
+        // if this fails, the records may be partly written, and the caller has the data file rewritten
+        ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        segment.force(false);
+        lastSequence = sequence;
+    }
+
+    /**
+     * Moves on to a new segment, writes {@code snapshot}, which includes all records appended so far,
+     * to the data file, and deletes the older segments.
+     */
+    private void compact(ReadOnlyAddressBook snapshot) throws IOException {
+        if (segment.size() > 0) {
+            segment.close();
+            openSegment(segmentIndex + 1);
+        }
+        isCompactionDue = false;
+
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(snapshot, filePath, lastSequence);
+        isSnapshotOutdated = false;
+        for (Path segmentPath : listSegments(filePath)) {
+            if (getSegmentIndex(segmentPath) < segmentIndex) {
+                Files.deleteIfExists(segmentPath);
+            }
+        }
+    }
+
+    /**
+     * Returns the records in the segment at {@code segmentPath} up to the first record that is incomplete or
+     * damaged, which may be left behind if the application stopped while the record was being appended.
+     */
+    private static List<JsonAdaptedAddressBookChange> readSegment(Path segmentPath) throws IOException {
+        List<JsonAdaptedAddressBookChange> records = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(segmentPath)) {
+            while (parser.nextToken() != null) {
+                records.add(parser.readValueAs(JsonAdaptedAddressBookChange.class));
+            }
+        } catch (JsonProcessingException e) {
+            logger.warning("Ignoring the rest of journal segment " + segmentPath + ": " + e.getOriginalMessage());
+        }
+        return records;
+    }
+
+    /**
+     * Returns the time that the address book at {@code filePath} or its journal was last modified.
+     * The data file must exist.
+     */
+    static FileTime getLastModifiedTime(Path filePath) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        for (Path segmentPath : listSegments(filePath)) {
+            FileTime segmentModifiedTime = Files.getLastModifiedTime(segmentPath);
+            if (segmentModifiedTime.compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = segmentModifiedTime;
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    /**
+     * Returns the segments of the journal of the address book at {@code filePath}, in the order they were written.
+     */
+    private static List<Path> listSegments(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+
+        String segmentPrefix = filePath.getFileName() + SEGMENT_INFIX;
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(segmentPrefix))
+                    .filter(file -> getSegmentIndex(file) >= 0)
+                    .sorted(Comparator.comparingInt(JournaledAddressBookStorage::getSegmentIndex))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the index in the name of the segment at {@code segmentPath}, or -1 if the name has no valid index.
+     */
+    private static int getSegmentIndex(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        String index = fileName.substring(fileName.lastIndexOf('.') + 1);
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
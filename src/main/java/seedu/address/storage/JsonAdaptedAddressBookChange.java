@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, recorded in the journal of an address book.
+ * Persons that are edited or deleted are referred to by name, which identifies them in the address book.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Journal record refers to a missing person: %s";
+
+    private final long seq;
+    private final AddressBookChange.Type type;
+    private final String target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("seq") long seq,
+            @JsonProperty("type") AddressBookChange.Type type, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.seq = seq;
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     *
+     * @param seq the position of the change in the journal.
+     */
+    public JsonAdaptedAddressBookChange(long seq, AddressBookChange source) {
+        this.seq = seq;
+        type = source.getType();
+        target = source.getTarget() == null ? null : source.getTarget().getName().fullName;
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Makes the change recorded by this object to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded change,
+     *     or if the change cannot be made to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        try {
+            switch (type) {
+            case ADD:
+                JsonSerializableAddressBook.addPerson(addressBook, toModelPerson());
+                break;
+            case EDIT:
+                addressBook.setPerson(toModelTarget(addressBook), toModelPerson());
+                break;
+            case DELETE:
+                addressBook.removePerson(toModelTarget(addressBook));
+                break;
+            case CLEAR:
+                addressBook.resetData(new AddressBook());
+                break;
+            default:
+                throw new AssertionError("Unknown journal record type: " + type);
+            }
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (OverlappingAppointmentException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_OVERLAPPING_APPOINTMENT);
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Person toModelTarget(AddressBook addressBook) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (!Name.isValidName(target)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.findPerson(new Name(target))
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_PERSON_NOT_FOUND, target)));
+    }
+
+}
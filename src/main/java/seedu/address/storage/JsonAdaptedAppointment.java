@@ -26,7 +26,7 @@ class JsonAdaptedAppointment {
      * Converts a given {@code Appointment} into this class for Jackson use.
      */
     public JsonAdaptedAppointment(Appointment source) {
-        appointment = source.value;
+        appointment = source.getValue();
     }
 
     @JsonValue
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Reads an AddressBook from a json file in the format written by {@link JsonSerializableAddressBook}.
+ *
+ * The file is read incrementally, and persons are converted and added to the address book in batches as they are
+ * read, so the contents of the file are never held in memory in full alongside the address book.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected the address book to be a json object";
+
+    static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    static final long NO_JOURNAL_SEQUENCE = AddressBookSnapshotStorage.NO_JOURNAL_SEQUENCE;
+
+    /** The number of persons read from the file before they are converted together. */
+    private static final int PERSON_BATCH_SIZE = 1024;
+
+    /**
+     * Reads the address book stored at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            List<Appointment> appointments = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (fieldName.equals("persons")) {
+                    readPersons(parser, addressBook);
+                } else if (fieldName.equals("appointments")) {
+                    readAppointments(parser, appointments);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            JsonSerializableAddressBook.checkAppointments(addressBook, appointments);
+            return addressBook;
+        }
+    }
+
+    private static void readPersons(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        int batchStart = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == PERSON_BATCH_SIZE) {
+                JsonSerializableAddressBook.addPersons(addressBook, batch, batchStart);
+                batchStart += batch.size();
+                batch.clear();
+            }
+        }
+        JsonSerializableAddressBook.addPersons(addressBook, batch, batchStart);
+    }
+
+    private static void readAppointments(JsonParser parser, List<Appointment> appointments)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedAppointment jsonAdaptedAppointment = parser.readValueAs(JsonAdaptedAppointment.class);
+            appointments.add(jsonAdaptedAppointment.toModelType());
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the address book stored at
+     * {@code filePath}, or {@link #NO_JOURNAL_SEQUENCE} if the address book was not saved alongside a journal.
+     * Only the fields before the lists of the address book are read.
+     *
+     * @throws IOException if the file could not be read or is not in the expected json format.
+     */
+    public static long readJournalSequence(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(JOURNAL_SEQUENCE_FIELD) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                if (valueToken.isStructStart()) {
+                    break;
+                }
+            }
+            return NO_JOURNAL_SEQUENCE;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an AddressBook to a json file in the format read by {@link JsonAddressBookReader}.
+ *
+ * Each person is converted and written as soon as it is reached, so the json document is never held
+ * in memory in full.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the contents of the file atomically.
+     *
+     * @param isCompact whether to leave out the whitespace that pretty-prints the file.
+     * @param backupCount the number of previous versions of the file to keep.
+     * @param journalSequence the sequence number of the last journal record that {@code addressBook} includes,
+     *     or {@link JsonAddressBookReader#NO_JOURNAL_SEQUENCE} if it is not saved alongside a journal.
+     * @throws IOException if there was an error writing to the file.
+     * @see FileUtil#writeToFileAtomically(Path, FileUtil.ChannelWriter, int)
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, int backupCount,
+            long journalSequence) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, channel -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), isCompact)) {
+                write(addressBook, journalSequence, generator);
+            }
+        }, backupCount);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the contents of the file atomically.
+     *
+     * @param isCompact whether to leave out the whitespace that pretty-prints the file.
+     * @param backupCount the number of previous versions of the file to keep.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, int backupCount)
+            throws IOException {
+        write(addressBook, filePath, isCompact, backupCount, JsonAddressBookReader.NO_JOURNAL_SEQUENCE);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the contents of the file atomically
+     * without keeping its previous version.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, filePath, isCompact, 0);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, long journalSequence, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+
+        // written first, so that it can be read without reading the rest of the file
+        if (journalSequence != JsonAddressBookReader.NO_JOURNAL_SEQUENCE) {
+            generator.writeNumberField(JsonAddressBookReader.JOURNAL_SEQUENCE_FIELD, journalSequence);
+        }
+
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("appointments");
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            generator.writeString(appointment.getValue());
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,7 +14,6 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.person.Person;
 
 /**
@@ -25,6 +26,10 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_OVERLAPPING_APPOINTMENT =
             "Appointment list contains overlapping appointment(s).";
     public static final String MESSAGE_APPOINTMENTS_PERSONS_MISMATCH = "Persons list and appointments list don't match";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d in the persons list is invalid: %s";
+
+    /** The number of persons that a conversion task converts itself rather than splitting them with other tasks. */
+    private static final int CONVERSION_THRESHOLD = 64;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
@@ -63,45 +68,144 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
-        AppointmentList temp = new AppointmentList();
+        List<Appointment> modelAppointments = new ArrayList<>();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            temp.add(appointment);
+            modelAppointments.add(jsonAdaptedAppointment.toModelType());
         }
 
-        if (temp.isOverlapping()) {
-            throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
-        }
+        addPersons(addressBook, persons, 0);
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        checkAppointments(addressBook, modelAppointments);
+        return addressBook;
+    }
 
-            // check for uniqueness among persons
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
+    /**
+     * Converts {@code persons} into the model's {@code Person} objects and adds them to {@code addressBook} in order.
+     * The persons are converted in parallel, and only then checked against each other and added.
+     *
+     * @param firstIndex the index of the first of {@code persons} in the persons list of the data file.
+     * @throws IllegalValueException if any of {@code persons} is invalid, or if they cannot all be added
+     *     as in {@link #addPerson}.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> persons, int firstIndex)
+            throws IllegalValueException {
+        for (Person person : toModelPersons(persons, firstIndex)) {
+            addPerson(addressBook, person);
+        }
+    }
 
-            // check for overlapping appointments among persons
-            for (Appointment ap : person.getAppointments()) {
-                if (addressBook.appointmentsOverlap(ap)) {
-                    throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
-                }
-            }
+    /**
+     * Converts {@code persons} into the model's {@code Person} objects, in the same order, using the common
+     * fork-join pool.
+     *
+     * @param firstIndex the index of the first of {@code persons} in the persons list of the data file.
+     * @throws IllegalValueException if any of {@code persons} is invalid. The message names the first invalid person.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> persons, int firstIndex) throws IllegalValueException {
+        Person[] modelPersons = new Person[persons.size()];
+        ConversionFailure failure = new ConversionTask(persons, modelPersons, 0, persons.size()).invoke();
+        if (failure != null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON,
+                    firstIndex + failure.index + 1, failure.cause.getMessage()), failure.cause);
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code person} is a duplicate of a person in {@code addressBook},
+     *     or if {@code person} has overlapping appointments.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        // check for uniqueness among persons
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
 
-            // check for overlapping appointments of a person
-            if (person.getAppointments().isOverlapping()) {
+        // check for overlapping appointments among persons
+        for (Appointment ap : person.getAppointments()) {
+            if (addressBook.appointmentsOverlap(ap)) {
                 throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
             }
+        }
+
+        // check for overlapping appointments of a person
+        if (person.getAppointments().isOverlapping()) {
+            throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        }
+
+        addressBook.addPerson(person);
+    }
 
-            addressBook.addPerson(person);
+    /**
+     * Checks that {@code appointments}, as listed in the data file, are exactly the appointments of the persons
+     * in {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code appointments} overlap or do not match the persons' appointments.
+     */
+    static void checkAppointments(AddressBook addressBook, List<Appointment> appointments)
+            throws IllegalValueException {
+        if (Appointment.hasOverlapping(appointments)) {
+            throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
         }
 
-        if (!temp.asUnmodifiableObservableList().equals(addressBook.getAppointmentList())) {
+        if (!appointments.equals(addressBook.getAppointmentList())) {
             throw new IllegalValueException(MESSAGE_APPOINTMENTS_PERSONS_MISMATCH);
         }
+    }
 
-        return addressBook;
+    /**
+     * The first person in a range that could not be converted.
+     */
+    private static class ConversionFailure {
+        private final int index;
+        private final IllegalValueException cause;
+
+        private ConversionFailure(int index, IllegalValueException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
     }
 
-}
+    /**
+     * Converts the persons in a range of the persons list into an array at the same positions, splitting large
+     * ranges into halves that are converted in parallel.
+     * Returns the first person in the range that could not be converted, or null if all of them were converted.
+     */
+    private static class ConversionTask extends RecursiveTask<ConversionFailure> {
+        private final List<JsonAdaptedPerson> persons;
+        private final Person[] modelPersons;
+        private final int start;
+        private final int end;
+
+        private ConversionTask(List<JsonAdaptedPerson> persons, Person[] modelPersons, int start, int end) {
+            this.persons = persons;
+            this.modelPersons = modelPersons;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ConversionFailure compute() {
+            if (end - start <= CONVERSION_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        modelPersons[i] = persons.get(i).toModelType();
+                    } catch (IllegalValueException e) {
+                        return new ConversionFailure(i, e);
+                    }
+                }
+                return null;
+            }
+
+            int middle = (start + end) >>> 1;
+            ConversionTask second = new ConversionTask(persons, modelPersons, middle, end);
+            second.fork();
+            ConversionFailure firstFailure = new ConversionTask(persons, modelPersons, start, middle).compute();
+            ConversionFailure secondFailure = second.join();
+            return firstFailure != null ? firstFailure : secondFailure;
+        }
+    }
 
+}
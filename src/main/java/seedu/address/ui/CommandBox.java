@@ -1,34 +1,62 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While a name is being typed, the names of persons that start with it are suggested below the command box.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int MAX_NAME_SUGGESTIONS = 8;
     private static final String FXML = "CommandBox.fxml";
 
+    private final Logger logger = LogsCenter.getLogger(CommandBox.class);
+
     private final CommandExecutor commandExecutor;
+    private final NameSuggester nameSuggester;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private final ExecutorService suggestionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "name-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The number of the latest request for suggestions, which is only accessed on the JavaFX thread. */
+    private long suggestionRequest;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameSuggester}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameSuggester nameSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameSuggester = nameSuggester;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> requestNameSuggestions(newText));
     }
 
     /**
@@ -49,6 +77,58 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Looks up the names that complete the name being typed at the end of {@code commandText} on a background
+     * thread, so that typing is never held up by the lookup, and shows them once they are found.
+     */
+    private void requestNameSuggestions(String commandText) {
+        long request = ++suggestionRequest;
+        int nameStart = ParserUtil.getNameStart(commandText);
+        if (nameStart == -1) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        String textBeforeName = commandText.substring(0, nameStart);
+        String namePrefix = commandText.substring(nameStart);
+        suggestionExecutor.execute(() -> {
+            try {
+                List<String> names = nameSuggester.suggestNames(namePrefix, MAX_NAME_SUGGESTIONS);
+                Platform.runLater(() -> showNameSuggestions(request, textBeforeName, namePrefix, names));
+            } catch (RuntimeException e) {
+                logger.warning("Could not suggest names for " + namePrefix + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Shows {@code names} as the suggestions for {@code namePrefix}, unless the text has changed since
+     * request {@code request} was made.
+     */
+    private void showNameSuggestions(long request, String textBeforeName, String namePrefix, List<String> names) {
+        if (request != suggestionRequest) {
+            return;
+        }
+        if (names.isEmpty() || (names.size() == 1 && names.get(0).equalsIgnoreCase(namePrefix))) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (String name : names) {
+            MenuItem menuItem = new MenuItem(name);
+            menuItem.setOnAction(unused -> {
+                commandTextField.setText(textBeforeName + name);
+                commandTextField.positionCaret(commandTextField.getText().length());
+            });
+            menuItems.add(menuItem);
+        }
+        suggestionMenu.getItems().setAll(menuItems);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +162,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests the names of persons, which may be called from any thread.
+     */
+    @FunctionalInterface
+    public interface NameSuggester {
+        /**
+         * Returns up to {@code limit} names of persons that start with {@code prefix} ignoring case.
+         *
+         * @see seedu.address.logic.Logic#findNamesByPrefix(String, int)
+         */
+        List<String> suggestNames(String prefix, int limit);
+    }
+
 }
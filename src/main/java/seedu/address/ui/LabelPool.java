@@ -0,0 +1,42 @@
+package seedu.address.ui;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javafx.scene.control.Label;
+
+/**
+ * A bounded pool of labels that are no longer shown, so that labels shown and hidden often, such as the summary
+ * chips of the person cards, are reused instead of created each time.
+ * Like the labels themselves, the pool must only be used on the JavaFX application thread.
+ */
+class LabelPool {
+
+    private final Deque<Label> labels = new ArrayDeque<>();
+    private final int capacity;
+
+    /**
+     * Creates an empty pool that keeps at most {@code capacity} labels.
+     */
+    LabelPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a label from the pool, or a new label if the pool is empty.
+     */
+    Label acquire() {
+        Label label = labels.poll();
+        return label == null ? new Label() : label;
+    }
+
+    /**
+     * Returns {@code label}, which must no longer be shown, to the pool.
+     * The label is dropped if the pool is full.
+     */
+    void release(Label label) {
+        if (labels.size() < capacity) {
+            labels.push(label);
+        }
+    }
+}
@@ -1,21 +1,31 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card is loaded once and can be given another person to show, so that list cells can reuse their cards.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    /** The style class that every label has. */
+    private static final String LABEL_STYLE_CLASS = "label";
+    private static final Comparator<Subject> SUBJECT_ORDER = Comparator.comparing(Subject::getSubject);
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -25,7 +35,12 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final LabelPool chipPool;
+    private final List<Subject> sortedSubjects = new ArrayList<>();
+    private final List<Tag> sortedTags = new ArrayList<>();
+    private Person person;
+    private int displayedIndex;
+    private int chipCount;
 
     @FXML
     private HBox cardPane;
@@ -46,39 +61,94 @@ public class PersonCard extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard} that takes the labels of its summary from {@code chipPool}.
+     * The card is loaded once and shows a person when {@link #setPerson(Person, int)} is called.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(LabelPool chipPool) {
         super(FXML);
+        this.chipPool = chipPool;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with the given index to display, reusing the labels already in the card.
+     * The labels of the summary that are no longer needed are returned to the pool.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().isEmpty() ? "-" : person.getPhone().value);
         email.setText(person.getEmail().isEmpty() ? "-" : person.getEmail().value);
 
+        chipCount = 0;
         String level = person.getLevel().toString();
         if (level != null) {
-            summary.getChildren().add(createSummaryLabel(level, level));
+            showSummaryLabel(level, level);
         }
 
-        person.getSubjects().stream()
-                .sorted(Comparator.comparing(Subject::getSubject))
-                .forEach(subject -> summary.getChildren()
-                        .add(createSummaryLabel(subject.getSubject(), subject.getSubject())));
+        sortedSubjects.clear();
+        for (Subject subject : person.getSubjects()) {
+            sortedSubjects.add(subject);
+        }
+        sortedSubjects.sort(SUBJECT_ORDER);
+        for (Subject subject : sortedSubjects) {
+            showSummaryLabel(subject.getSubject(), subject.getSubject());
+        }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> summary.getChildren().add(createSummaryLabel(tag.tagName, "tag")));
+        sortedTags.clear();
+        for (Tag tag : person.getTags()) {
+            sortedTags.add(tag);
+        }
+        sortedTags.sort(TAG_ORDER);
+        for (Tag tag : sortedTags) {
+            showSummaryLabel(tag.tagName, "tag");
+        }
+
+        hideUnusedSummaryLabels();
+    }
+
+    /**
+     * Shows the next label in the summary FlowPane with the specified text content and style class,
+     * reusing a label already in the summary or one from the pool.
+     */
+    private void showSummaryLabel(String content, String classToAdd) {
+        ObservableList<Node> chips = summary.getChildren();
+        Label chip;
+        if (chipCount < chips.size()) {
+            chip = (Label) chips.get(chipCount);
+        } else {
+            chip = chipPool.acquire();
+            chips.add(chip);
+        }
+        chipCount++;
 
+        chip.setText(content);
+        ObservableList<String> styleClass = chip.getStyleClass();
+        if (styleClass.size() != 2 || !styleClass.get(1).equals(classToAdd)) {
+            styleClass.setAll(LABEL_STYLE_CLASS, classToAdd);
+        }
     }
 
     /**
-     * Returns a Label object that is used in the summary FlowPane containing the specified text content
-     * and style class.
+     * Removes the labels after the ones shown from the summary FlowPane, returning them to the pool.
      */
-    private Label createSummaryLabel(String content, String classToAdd) {
-        Label customLabel = new Label(content);
-        customLabel.getStyleClass().add(classToAdd);
-        return customLabel;
+    private void hideUnusedSummaryLabels() {
+        ObservableList<Node> chips = summary.getChildren();
+        if (chipCount == chips.size()) {
+            return;
+        }
+        for (int i = chipCount; i < chips.size(); i++) {
+            chipPool.release((Label) chips.get(i));
+        }
+        chips.remove(chipCount, chips.size());
     }
 }
@@ -15,7 +15,9 @@ import seedu.address.model.person.Person;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    private static final int MAX_POOLED_CHIPS = 64;
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final LabelPool chipPool = new LabelPool(MAX_POOLED_CHIPS);
 
     @FXML
     private ListView<Person> personListView;
@@ -31,8 +33,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once and shows the person of each item it is given in the same card.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +46,13 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(chipPool);
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                if (getGraphic() != personCard.getRoot()) {
+                    setGraphic(personCard.getRoot());
+                }
             }
         }
     }
@@ -39,10 +39,40 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchFileAndCheckpoint_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "500");
+        expected.setBatchFilePath(Paths.get("commands.txt"));
+        expected.setCheckpointInterval(500);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchFileAndCheckpoint_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        parametersStub.namedParameters.put("checkpoint", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("checkpoint", "0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_readsNamedParameters() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchFilePath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "unnamed", "--batch=commands.txt",
+                "--=value", "-checkpoint=5"));
+        assertEquals(new AppParameters(), AppParameters.parse());
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchFilePath=" + appParameters.getBatchFilePath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +96,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchFilePath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
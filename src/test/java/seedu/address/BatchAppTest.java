@@ -0,0 +1,80 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class BatchAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final AppParameters appParameters = new AppParameters();
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFilePath = temporaryFolder.resolve("addressbook.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        appParameters.setConfigPath(configFilePath);
+    }
+
+    @Test
+    public void run_allCommandsSucceed_savesAddressBook() throws Exception {
+        assertEquals(BatchApp.EXIT_SUCCESS, run("clear", "add n/Alice Tan", "add n/Bob Lim"));
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get();
+        assertEquals(2, saved.getPersonList().size());
+        assertTrue(saved.getPersonList().stream().anyMatch(person -> person.getName().equals(new Name("Bob Lim"))));
+    }
+
+    @Test
+    public void run_someCommandsFail_reportsFailures() throws Exception {
+        assertEquals(BatchApp.EXIT_COMMANDS_FAILED, run("clear", "delete 1", "add n/Alice Tan"));
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Line 2: delete 1"));
+        assertEquals(1, new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get()
+                .getPersonList().size());
+    }
+
+    @Test
+    public void run_missingBatchFile_returnsError() {
+        appParameters.setBatchFilePath(temporaryFolder.resolve("missing.txt"));
+        assertEquals(BatchApp.EXIT_ERROR, BatchApp.run(appParameters, new PrintStream(output)));
+    }
+
+    private int run(String... commands) throws Exception {
+        Path batchFilePath = temporaryFolder.resolve("commands.txt");
+        Files.write(batchFilePath, List.of(commands), StandardCharsets.UTF_8);
+        appParameters.setBatchFilePath(batchFilePath);
+        return BatchApp.run(appParameters, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_plainValues_splitsAtCommas() throws Exception {
+        CsvReader csvReader = csvReader("name,phone\r\nAlice,94351253\n,\n");
+        assertEquals(Arrays.asList("name", "phone"), csvReader.readRecord());
+        assertEquals(1, csvReader.getRecordLineNumber());
+        assertEquals(Arrays.asList("Alice", "94351253"), csvReader.readRecord());
+        assertEquals(2, csvReader.getRecordLineNumber());
+        assertEquals(Arrays.asList("", ""), csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedValues_keepsSeparatorsAndQuotes() throws Exception {
+        CsvReader csvReader = csvReader("\"311, Clementi Ave 2\",\"He said \"\"hi\"\"\",\"\"\n");
+        assertEquals(Arrays.asList("311, Clementi Ave 2", "He said \"hi\"", ""), csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedLineBreak_continuesOnNextLine() throws Exception {
+        CsvReader csvReader = csvReader("\"first line\nsecond line\",Alice\nBob\n");
+        assertEquals(Arrays.asList("first line\nsecond line", "Alice"), csvReader.readRecord());
+        assertEquals(1, csvReader.getRecordLineNumber());
+        assertEquals(Collections.singletonList("Bob"), csvReader.readRecord());
+        assertEquals(3, csvReader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_ignored() throws Exception {
+        assertEquals(Arrays.asList("name", "phone"), csvReader("\uFEFFname,phone").readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws Exception {
+        CsvReader csvReader = csvReader("name\n\"Alice,\nBob\n");
+        csvReader.readRecord();
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), csvReader::readRecord);
+    }
+
+    private static CsvReader csvReader(String contents) {
+        return new CsvReader(new BufferedReader(new StringReader(contents)));
+    }
+}
@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,52 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_createsFile() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        writeAtomically(file, "content", 0);
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_withBackups_rotatesBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "first", 2);
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+
+        writeAtomically(file, "second", 2);
+        writeAtomically(file, "third", 2);
+        writeAtomically(file, "fourth", 2);
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertEquals(3, listFiles(testFolder).size());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsOldContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "old", 0);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap("partial".getBytes(StandardCharsets.UTF_8)));
+            throw new IOException("crash while writing");
+        }, 0));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    private static void writeAtomically(Path file, String content, int backupCount) throws IOException {
+        FileUtil.writeToFileAtomically(file, channel ->
+                channel.write(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))), backupCount);
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Characters that the scanners treat differently, including non-ASCII letters, digits and line breaks. */
+    private static final String ALPHABET = "aZ09 _-@.:\t\n\r\u000B\f\u0085\u2028\u2029\u00e9\u0663\ud83d\ude00";
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+
+        assertFalse(ValidationUtil.isDigits("", 3));
+        assertFalse(ValidationUtil.isDigits("91", 3));
+        assertFalse(ValidationUtil.isDigits("9011p041", 3));
+        assertFalse(ValidationUtil.isDigits("9312 1534", 3));
+        assertFalse(ValidationUtil.isDigits("\u0663\u0663\u0663", 3)); // non-ASCII digits
+
+        assertTrue(ValidationUtil.isDigits("911", 3));
+        assertTrue(ValidationUtil.isDigits("124293842033123", 3));
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" peter"));
+        assertFalse(ValidationUtil.isAlphanumericWords("peter*"));
+        assertFalse(ValidationUtil.isAlphanumericWords("ren\u00e9"));
+
+        assertTrue(ValidationUtil.isAlphanumericWords("peter jack"));
+        assertTrue(ValidationUtil.isAlphanumericWords("Capital Tan 2nd "));
+    }
+
+    @Test
+    public void isNonBlankLine() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNonBlankLine(null));
+
+        assertFalse(ValidationUtil.isNonBlankLine(""));
+        assertFalse(ValidationUtil.isNonBlankLine(" "));
+        assertFalse(ValidationUtil.isNonBlankLine("Blk 456\nDen Road"));
+
+        assertTrue(ValidationUtil.isNonBlankLine("-"));
+        assertTrue(ValidationUtil.isNonBlankLine("Blk 456, Den Road, #01-355"));
+    }
+
+    @Test
+    public void scanners_randomStrings_sameAsRegex() {
+        assertSameAsRegex("\\d{3,}", test -> ValidationUtil.isDigits(test, 3));
+        assertSameAsRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+        assertSameAsRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWords);
+        assertSameAsRegex("[^\\s].*", ValidationUtil::isNonBlankLine);
+    }
+
+    /**
+     * Asserts that {@code scanner} accepts the same random strings over {@link #ALPHABET} as {@code regex}.
+     */
+    private static void assertSameAsRegex(String regex, Predicate<String> scanner) {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                test.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+
+            String value = test.toString();
+            assertEquals(value.matches(regex), scanner.test(value), regex + " on \"" + value + "\"");
+        }
+    }
+}
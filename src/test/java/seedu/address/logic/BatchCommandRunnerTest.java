@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NOTE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class BatchCommandRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+    private final List<List<AddressBookChange>> savedChanges = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, BatchCommandRunner.MESSAGE_INVALID_CHECKPOINT_INTERVAL, () ->
+                new BatchCommandRunner(model, createStorage(), -1));
+    }
+
+    @Test
+    public void run_someCommandsFail_runsRemainingCommandsAndReportsFailures() throws Exception {
+        BatchReport report = new BatchCommandRunner(model, createStorage(), 0)
+                .run(commands("# enrolment", "", "delete 3", ADD_AMY, "  unknown  ", ListCommand.COMMAND_WORD));
+
+        assertEquals(2, report.getSucceededCount());
+        assertEquals(List.of(
+                String.format(BatchCommandRunner.MESSAGE_FAILURE, 3, "delete 3",
+                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                String.format(BatchCommandRunner.MESSAGE_FAILURE, 5, "unknown", MESSAGE_UNKNOWN_COMMAND)),
+                report.getFailures());
+        assertTrue(report.hasFailures());
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().removeLevel().build()),
+                model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void run_noCheckpoints_savesOnceAtEnd() throws Exception {
+        BatchReport report = new BatchCommandRunner(model, createStorage(), 0)
+                .run(commands(addCommand("Alice"), addCommand("Bob"), addCommand("Carl")));
+
+        assertEquals(1, report.getSaveCount());
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(3, savedAddressBooks.get(0).getPersonList().size());
+    }
+
+    @Test
+    public void run_checkpoints_savesChangesAfterEveryCheckpoint() throws Exception {
+        BatchReport report = new BatchCommandRunner(model, createStorage(), 2)
+                .run(commands(addCommand("Alice"), ListCommand.COMMAND_WORD, addCommand("Bob"), addCommand("Carl"),
+                        addCommand("Dan"), addCommand("Elle")));
+
+        // the first save writes the whole address book, and later saves only the changes since the last save
+        assertEquals(3, report.getSaveCount());
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(2, savedAddressBooks.get(0).getPersonList().size());
+        assertEquals(List.of(2, 1), List.of(savedChanges.get(0).size(), savedChanges.get(1).size()));
+    }
+
+    @Test
+    public void run_readOnlyCommands_notSaved() throws Exception {
+        BatchReport report = new BatchCommandRunner(model, createStorage(), 1)
+                .run(commands(ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " Alice"));
+
+        assertEquals(2, report.getSucceededCount());
+        assertEquals(0, report.getSaveCount());
+        assertTrue(savedAddressBooks.isEmpty());
+        assertTrue(savedChanges.isEmpty());
+    }
+
+    @Test
+    public void run_unreadableCommands_throwsIoException() {
+        BufferedReader unreadable = new BufferedReader(new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("unreadable");
+            }
+
+            @Override
+            public void close() {}
+        });
+        assertThrows(IOException.class, () -> new BatchCommandRunner(model, createStorage(), 0).run(unreadable));
+    }
+
+    private StorageManager createStorage() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        savedAddressBooks.add(new AddressBook(addressBook));
+                    }
+
+                    @Override
+                    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook,
+                            List<AddressBookChange> changes) {
+                        savedChanges.add(changes);
+                    }
+                };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    private static String addCommand(String name) {
+        return AddCommand.COMMAND_WORD + " n/" + name;
+    }
+
+    private static BufferedReader commands(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchReportTest {
+
+    @Test
+    public void getSummary_reportsCountsAndThroughput() {
+        BatchReport report = new BatchReport(3, List.of("failure"), 2, 2_000_000_000L);
+        assertEquals(2.0, report.getThroughput());
+        assertEquals(String.format(BatchReport.MESSAGE_SUMMARY, 4, 2.0, 2.0, 3, 1, 2), report.getSummary());
+    }
+
+    @Test
+    public void getThroughput_noTimeElapsed_returnsZero() {
+        assertEquals(0.0, new BatchReport(0, List.of(), 0, 0).getThroughput());
+    }
+
+    @Test
+    public void hasFailures() {
+        assertTrue(new BatchReport(0, List.of("failure"), 0, 1).hasFailures());
+        assertFalse(new BatchReport(1, List.of(), 0, 1).hasFailures());
+    }
+
+    @Test
+    public void equals() {
+        BatchReport report = new BatchReport(1, List.of("failure"), 1, 10);
+
+        // same values -> returns true
+        assertTrue(report.equals(new BatchReport(1, List.of("failure"), 1, 10)));
+
+        // same object -> returns true
+        assertTrue(report.equals(report));
+
+        // null -> returns false
+        assertFalse(report.equals(null));
+
+        // different types -> returns false
+        assertFalse(report.equals(0.5f));
+
+        // different failures -> returns false
+        assertFalse(report.equals(new BatchReport(1, List.of(), 1, 10)));
+
+        // different elapsed time -> returns false
+        assertFalse(report.equals(new BatchReport(1, List.of("failure"), 1, 11)));
+    }
+}
@@ -9,11 +9,13 @@ import static seedu.address.testutil.TypicalAppointments.SUN_APPOINTMENT_10_TO_1
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,12 +25,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.TimeSlot;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.OwnedAppointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -161,6 +169,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -171,11 +184,37 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookChange> takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByAttributes(Collection<Tag> tags, Collection<Subject> subjects,
+                Collection<Level> levels) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findNamesByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<String> findNearDuplicates(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +240,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Set<Person> matchingPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<OwnedAppointment> getFilteredPersonAppointments(Collection<DayOfWeek> days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -211,6 +260,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<TimeSlot> findFreeSlots(List<DayOfWeek> days, int minDuration) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean appointmentsOverlap(Collection<Appointment> appointments) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeCommand.
+ */
+public class FreeCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_freePeriods_listsPeriodsInOrderOfDays() {
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, 60) + "\n"
+                + "SUN 00:00-12:00\n"
+                + "SUN 13:00-24:00\n"
+                + "MON 00:00-24:00";
+        assertCommandSuccess(new FreeCommand(60, List.of(DayOfWeek.SUNDAY, DayOfWeek.MONDAY)), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_longDuration_listsLongEnoughPeriodsOnly() {
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, 700) + "\n"
+                + "SUN 00:00-12:00";
+        assertCommandSuccess(new FreeCommand(700, List.of(DayOfWeek.SUNDAY)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noFreePeriods_showsNoFreePeriods() {
+        assertCommandSuccess(new FreeCommand(24 * 60, List.of(DayOfWeek.SUNDAY)), model,
+                String.format(FreeCommand.MESSAGE_NO_FREE_SLOTS, 24 * 60), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand freeCommand = new FreeCommand(90, List.of(DayOfWeek.MONDAY));
+
+        // same object -> returns true
+        assertTrue(freeCommand.equals(freeCommand));
+
+        // same values -> returns true
+        assertTrue(freeCommand.equals(new FreeCommand(90, List.of(DayOfWeek.MONDAY))));
+
+        // different types -> returns false
+        assertFalse(freeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(freeCommand.equals(null));
+
+        // different duration -> returns false
+        assertFalse(freeCommand.equals(new FreeCommand(60, List.of(DayOfWeek.MONDAY))));
+
+        // different days -> returns false
+        assertFalse(freeCommand.equals(new FreeCommand(90, List.of(DayOfWeek.TUESDAY))));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_someRowsInvalid_importsValidRowsAndReportsRejectedRows() throws Exception {
+        Path filePath = writeFile("name,phone,appointments,tags",
+                "Amy Bee,11111111,,friends",
+                "alice pauline,22222222,,",
+                "Bob Choo,+651234,,",
+                "Celine Tan,,12:30-13:30 SUN,",
+                "",
+                "Bob Choo,22222222,18:00-20:00 FRI;08:00-10:00 SUN,\"owesMoney; friends\"",
+                "BOB CHOO,,,",
+                "Dan Lee,,19:00-21:00 FRI,",
+                "Eve Ong,33333333");
+        expectedModel.addPersons(Arrays.asList(
+                new PersonBuilder().withName("Amy Bee").withPhone("11111111").removeEmail().removeAddress()
+                        .removeNote().removeLevel().withTags("friends").build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").removeEmail().removeAddress()
+                        .removeNote().removeLevel().withAppointments("18:00-20:00 FRI", "08:00-10:00 SUN")
+                        .withTags("owesMoney", "friends").build()));
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 6) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 3, AddCommand.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 5, DisjointAppointmentList.MESSAGE_CONSTRAINTS)
+                + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 8,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 7)) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 9, DisjointAppointmentList.MESSAGE_CONSTRAINTS)
+                + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 10,
+                        String.format(PersonCsvParser.MESSAGE_WRONG_VALUE_COUNT, 4, 2));
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyRowsRejected_reportsFirstRejectedRowsOnly() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name");
+        int rejectedRowCount = ImportCommand.MAX_REPORTED_REJECTED_ROWS + 5;
+        for (int i = 0; i < rejectedRowCount; i++) {
+            lines.add("Alice Pauline");
+        }
+        Path filePath = writeFile(lines.toArray(new String[0]));
+
+        String result = new ImportCommand(filePath).execute(model).getFeedbackToUser();
+        String[] resultLines = result.split("\n");
+        assertEquals(String.format(ImportCommand.MESSAGE_REJECTED_ROWS, rejectedRowCount), resultLines[1]);
+        assertEquals(ImportCommand.MAX_REPORTED_REJECTED_ROWS + 3, resultLines.length);
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 5),
+                resultLines[resultLines.length - 1]);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeFile();
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_MISSING_HEADER, filePath));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path filePath = writeFile("phone", "11111111");
+        assertCommandFailure(new ImportCommand(filePath), model, PersonCsvParser.MESSAGE_MISSING_NAME_COLUMN);
+    }
+
+    @Test
+    public void execute_unclosedQuote_importsNothing() throws Exception {
+        Path filePath = writeFile("name,note", "Amy Bee,fine", "Bob Choo,\"not closed");
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_READ_ERROR,
+                filePath, "Line 3: a quoted value is not closed"));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("students.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ImportCommand(filePath).toString());
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path filePath = temporaryFolder.resolve("persons.csv");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.DayOfWeek;
@@ -13,6 +15,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.AppointmentIsDayOfWeekPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 
 /**
@@ -47,4 +51,27 @@ public class ViewAppointmentsCommandTest {
                 new AppointmentIsDayOfWeekPredicate(List.of(DayOfWeek.MONDAY))), model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_severalDays_listsAppointmentsInOrderOfDayAndTime() {
+        Person amy = new PersonBuilder(AMY).withAppointments("16:00-17:00 SUN", "09:00-10:00 MON").build();
+        model.addPerson(amy);
+        expectedModel.addPerson(amy);
+        String expectedMessage = "Appointments:\n"
+                + "Amy Bee: 09:00-10:00 MON\n"
+                + "Benson Meier: 12:00-13:00 SUN\n"
+                + "Amy Bee: 16:00-17:00 SUN";
+        assertCommandSuccess(new ViewAppointmentsCommand(new AppointmentIsDayOfWeekPredicate(
+                List.of(DayOfWeek.SUNDAY, DayOfWeek.MONDAY))), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredPersonList_listsOnlyAppointmentsOfShownPersons() {
+        model.updateFilteredPersonList(person -> !person.isSamePerson(BENSON));
+        expectedModel.updateFilteredPersonList(person -> !person.isSamePerson(BENSON));
+        String expectedMessage = "Appointments:\n"
+                + "There are no appointments to show!";
+        assertCommandSuccess(new ViewAppointmentsCommand(
+                new AppointmentIsDayOfWeekPredicate(List.of(DayOfWeek.SUNDAY))), model, expectedMessage, expectedModel);
+    }
+
 }
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.PersonHasAttributesPredicate;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_allPrefixes_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonHasAttributesPredicate(
+                Set.of(new Tag("exam")), Set.of(new Subject("MATH")), Set.of(new Level("P5"))));
+        assertParseSuccess(parser, " l/P5 s/MATH t/exam", expectedFilterCommand);
+
+        // different case for subject and level
+        assertParseSuccess(parser, " t/exam s/math l/p5", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_repeatedPrefix_returnsFilterCommandWithAllValues() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonHasAttributesPredicate(
+                Collections.emptySet(), Set.of(new Subject("MATH"), new Subject("SCIENCE")),
+                Set.of(new Level("P5"), new Level("P6"))));
+        assertParseSuccess(parser, " s/MATH s/SCIENCE l/P5 l/P6", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no values
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " t/ s/ l/", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " exam t/exam", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " t/exam!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/HISTORY", Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " l/P7", Level.MESSAGE_CONSTRAINTS);
+    }
+}
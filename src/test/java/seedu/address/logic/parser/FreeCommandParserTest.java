@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeCommand;
+
+public class FreeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE);
+
+    private FreeCommandParser parser = new FreeCommandParser();
+
+    @Test
+    public void parse_durationOnly_returnsFreeCommandForEveryDay() {
+        assertParseSuccess(parser, " 90 ", new FreeCommand(90, Arrays.asList(DayOfWeek.values())));
+    }
+
+    @Test
+    public void parse_durationAndDays_returnsFreeCommand() {
+        FreeCommand expectedFreeCommand = new FreeCommand(90, List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+        assertParseSuccess(parser, "90 mon Tue", expectedFreeCommand);
+
+        // multiple whitespaces and repeated days
+        assertParseSuccess(parser, " \n 90 \t MON \n tue MON ", expectedFreeCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing duration
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "MON", MESSAGE_INVALID_FORMAT);
+
+        // duration not positive or longer than a day
+        assertParseFailure(parser, "0 MON", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-30 MON", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1441", MESSAGE_INVALID_FORMAT);
+
+        // not days
+        assertParseFailure(parser, "90 mon Tues", MESSAGE_INVALID_FORMAT);
+    }
+}
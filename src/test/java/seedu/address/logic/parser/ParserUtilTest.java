@@ -266,4 +266,39 @@ public class ParserUtilTest {
         assertEquals(ParserUtil.parseLevel(""), new EmptyLevel());
         assertEquals(ParserUtil.parseLevel(null), new EmptyLevel());
     }
+
+    @Test
+    public void getNameStart_namePrefix_returnsStartOfName() {
+        assertEquals(6, ParserUtil.getNameStart("add n/Al"));
+        assertEquals(8, ParserUtil.getNameStart("add n/  Al"));
+
+        // name prefix after other prefixes
+        assertEquals(13, ParserUtil.getNameStart("add p/9123 n/Al"));
+
+        // name prefix in the middle of the input, followed by another prefix
+        assertEquals(-1, ParserUtil.getNameStart("edit 1 n/Alex p/9123"));
+
+        // only the last name prefix is completed
+        assertEquals(17, ParserUtil.getNameStart("add n/Alex p/9 n/Be"));
+    }
+
+    @Test
+    public void getNameStart_findCommand_returnsStartOfKeywords() {
+        assertEquals(5, ParserUtil.getNameStart("find Alex"));
+        assertEquals(5, ParserUtil.getNameStart("find Alex Yeoh Ber"));
+        assertEquals(7, ParserUtil.getNameStart("  find Alex Yeoh"));
+        assertEquals(7, ParserUtil.getNameStart("find   Alex"));
+    }
+
+    @Test
+    public void getNameStart_noNameBeingTyped_returnsMinusOne() {
+        assertEquals(-1, ParserUtil.getNameStart(""));
+        assertEquals(-1, ParserUtil.getNameStart("list"));
+        assertEquals(-1, ParserUtil.getNameStart("delete 1"));
+        assertEquals(-1, ParserUtil.getNameStart("add p/9123"));
+        assertEquals(-1, ParserUtil.getNameStart("find"));
+        assertEquals(-1, ParserUtil.getNameStart("find "));
+        assertEquals(-1, ParserUtil.getNameStart("add n/"));
+        assertEquals(-1, ParserUtil.getNameStart("findAlex"));
+    }
 }
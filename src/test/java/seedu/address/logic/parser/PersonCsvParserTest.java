@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_FRIDAY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_SUNDAY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NOTE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final List<String> HEADER = Arrays.asList("name", "phone", "email", "address", "note", "tags",
+            "appointments", "subjects", "level");
+
+    @Test
+    public void constructor_unknownColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_UNKNOWN_COLUMN, "birthday",
+                String.join(", ", PersonCsvParser.getColumnNames())), () ->
+                new PersonCsvParser(Arrays.asList("name", "birthday")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN, "Phone"), () ->
+                new PersonCsvParser(Arrays.asList("name", "phone", "Phone")));
+    }
+
+    @Test
+    public void constructor_noNameColumn_throwsParseException() {
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_MISSING_NAME_COLUMN, () ->
+                new PersonCsvParser(Arrays.asList("phone", "email")));
+    }
+
+    @Test
+    public void parse_allColumns_returnsPerson() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertEquals(new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                        .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).withNote(VALID_NOTE_BOB)
+                        .withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND)
+                        .withAppointments(VALID_APPOINTMENT_FRIDAY, VALID_APPOINTMENT_SUNDAY)
+                        .withSubjects(VALID_SUBJECT_BOB).withLevel(VALID_LEVEL_BOB).build(),
+                parser.parse(Arrays.asList(" " + VALID_NAME_BOB + " ", VALID_PHONE_BOB, VALID_EMAIL_BOB,
+                        VALID_ADDRESS_BOB, VALID_NOTE_BOB, VALID_TAG_HUSBAND + "; " + VALID_TAG_FRIEND + ";",
+                        VALID_APPOINTMENT_FRIDAY + ";" + VALID_APPOINTMENT_SUNDAY, VALID_SUBJECT_BOB,
+                        VALID_LEVEL_BOB)));
+    }
+
+    @Test
+    public void parse_columnsInAnyOrderOrMissing_returnsPersonWithEmptyFields() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(Arrays.asList("Phone", "NAME", "email"));
+        assertEquals(new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB).removeEmail()
+                        .removeAddress().removeNote().removeLevel().build(),
+                parser.parse(Arrays.asList(VALID_PHONE_BOB, VALID_NAME_BOB, " ")));
+    }
+
+    @Test
+    public void parse_wrongValueCount_throwsParseException() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_VALUE_COUNT, 9, 2), () ->
+                parser.parse(Arrays.asList(VALID_NAME_BOB, VALID_PHONE_BOB)));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(Arrays.asList("name", "phone"));
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(Arrays.asList(VALID_NAME_BOB, "+651234")));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_FRIDAY;
@@ -60,6 +61,30 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_modifications_changesVersion() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
+    @Test
+    public void addPersons_newPersons_addsPersonsAndAppointments() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+        assertEquals(BENSON.getAppointments().asUnmodifiableObservableList(), addressBook.getAppointmentList());
+        assertEquals(initialVersion + 1, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
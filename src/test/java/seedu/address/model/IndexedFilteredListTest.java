@@ -0,0 +1,216 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private ObservableList<String> source;
+    private IndexedFilteredList<String> filteredList;
+
+    /** A copy of the filtered list that is kept up to date only through the changes it reports. */
+    private List<String> replayedList;
+    private int changedElementCount;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(Arrays.asList("alice", "bob", "carl", "daniel", "elle"));
+        filteredList = new IndexedFilteredList<>(source);
+        replayedList = new ArrayList<>(filteredList);
+        filteredList.addListener((ListChangeListener<String>) this::replay);
+    }
+
+    @Test
+    public void constructor_showsAllElements() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null));
+    }
+
+    @Test
+    public void setPredicate_reportsOnlyChangedElements() {
+        filteredList.setPredicate(name -> name.contains("l"));
+        assertEquals(Arrays.asList("alice", "carl", "daniel", "elle"), filteredList);
+        assertEquals(1, changedElementCount);
+        assertReplayedListMatches();
+
+        changedElementCount = 0;
+        filteredList.setPredicate(name -> name.length() <= 4);
+        assertEquals(Arrays.asList("bob", "carl", "elle"), filteredList);
+        assertEquals(3, changedElementCount);
+        assertReplayedListMatches();
+    }
+
+    @Test
+    public void setMatches_elementsInSource_showsMatchesInSourceOrder() {
+        Set<String> matches = newIdentitySet();
+        matches.add(source.get(3));
+        matches.add(source.get(0));
+        filteredList.setMatches(matches);
+
+        assertEquals(Arrays.asList("alice", "daniel"), filteredList);
+        assertEquals(0, filteredList.getSourceIndex(0));
+        assertEquals(1, filteredList.getViewIndex(3));
+        assertEquals(-1, filteredList.getViewIndex(1));
+        assertReplayedListMatches();
+    }
+
+    @Test
+    public void setMatches_equalElementNotInSource_isNotShown() {
+        Set<String> matches = newIdentitySet();
+        matches.add(new String("alice"));
+        filteredList.setMatches(matches);
+        assertTrue(filteredList.isEmpty());
+    }
+
+    @Test
+    public void isShown_elementsOfSource_returnsWhetherShown() {
+        filteredList.setPredicate(name -> name.startsWith("a") || name.startsWith("e"));
+        assertTrue(filteredList.isShown(source.get(0)));
+        assertFalse(filteredList.isShown(source.get(1)));
+
+        source.add("amy");
+        assertTrue(filteredList.isShown(source.get(5)));
+        assertFalse(filteredList.isShown(new String("alice")));
+    }
+
+    @Test
+    public void sourceChanged_addAndRemove_appliesDelta() {
+        filteredList.setPredicate(name -> name.startsWith("a") || name.startsWith("e"));
+        assertEquals(Arrays.asList("alice", "elle"), filteredList);
+
+        source.add("amy");
+        source.add(1, "bernice");
+        assertEquals(Arrays.asList("alice", "elle", "amy"), filteredList);
+
+        changedElementCount = 0;
+        source.remove("bob");
+        assertEquals(0, changedElementCount);
+        source.remove("alice");
+        assertEquals(Arrays.asList("elle", "amy"), filteredList);
+        assertEquals(3, filteredList.getSourceIndex(0));
+        assertEquals(4, filteredList.getSourceIndex(1));
+        assertReplayedListMatches();
+    }
+
+    @Test
+    public void sourceChanged_set_appliesDelta() {
+        filteredList.setPredicate(name -> name.startsWith("a") || name.startsWith("e"));
+
+        changedElementCount = 0;
+        source.set(0, "amy");
+        source.set(1, "eve");
+        source.set(4, "fiona");
+        assertEquals(Arrays.asList("amy", "eve"), filteredList);
+        assertEquals(4, changedElementCount);
+        assertReplayedListMatches();
+    }
+
+    @Test
+    public void sourceChanged_afterSetMatches_showsAddedMatches() {
+        Set<String> matches = newIdentitySet();
+        String fiona = "fiona";
+        matches.add(fiona);
+        matches.add(source.get(1));
+        filteredList.setMatches(matches);
+
+        source.add(fiona);
+        source.add("george");
+        assertEquals(Arrays.asList("bob", "fiona"), filteredList);
+        assertReplayedListMatches();
+    }
+
+    @Test
+    public void sourceChanged_sort_keepsFilter() {
+        filteredList.setPredicate(name -> !name.equals("carl"));
+        source.sort(Collections.reverseOrder());
+        assertEquals(Arrays.asList("elle", "daniel", "bob", "alice"), filteredList);
+        assertEquals(1, filteredList.getViewIndex(1));
+        assertEquals(-1, filteredList.getViewIndex(2));
+    }
+
+    @Test
+    public void randomChanges_matchesFilteredSource() {
+        Random random = new Random(20);
+        List<Predicate<String>> predicates = Arrays.asList(name -> true, name -> name.hashCode() % 3 == 0,
+                name -> name.length() % 2 == 0, name -> false);
+        Predicate<String> predicate = predicates.get(0);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(10);
+            String name = "person" + random.nextInt(500);
+            if (operation < 3) {
+                source.add(random.nextInt(source.size() + 1), name);
+            } else if (operation < 5 && !source.isEmpty()) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 7 && !source.isEmpty()) {
+                source.set(random.nextInt(source.size()), name);
+            } else if (operation == 7) {
+                predicate = predicates.get(random.nextInt(predicates.size()));
+                filteredList.setPredicate(predicate);
+            } else if (operation == 8) {
+                Set<String> matches = newIdentitySet();
+                for (String element : source) {
+                    if (random.nextBoolean()) {
+                        matches.add(element);
+                    }
+                }
+                filteredList.setMatches(matches);
+                predicate = matches::contains;
+            } else if (random.nextInt(20) == 0) {
+                List<String> names = new ArrayList<>();
+                for (int j = random.nextInt(30); j > 0; j--) {
+                    names.add("person" + random.nextInt(500) + "-" + i + "-" + j);
+                }
+                source.setAll(names);
+            }
+
+            Predicate<String> expectedPredicate = predicate;
+            assertEquals(source.stream().filter(expectedPredicate).collect(Collectors.toList()), filteredList);
+            assertReplayedListMatches();
+        }
+    }
+
+    private void assertReplayedListMatches() {
+        assertEquals(filteredList, replayedList);
+    }
+
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                replayedList.remove(change.getFrom());
+            }
+            replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            changedElementCount += change.getRemovedSize() + change.getAddedSize();
+        }
+    }
+
+    private static Set<String> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
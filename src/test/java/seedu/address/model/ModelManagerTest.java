@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -97,6 +99,32 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void takeAddressBookChanges_afterChanges_returnsChangesOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(editedAlice);
+        assertEquals(Arrays.asList(AddressBookChange.added(ALICE), AddressBookChange.edited(ALICE, editedAlice),
+                AddressBookChange.deleted(editedAlice)), modelManager.takeAddressBookChanges());
+        assertTrue(modelManager.takeAddressBookChanges().isEmpty());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(Arrays.asList(AddressBookChange.cleared(), AddressBookChange.added(BENSON)),
+                modelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void addPersons_newPersons_addsPersonsAndAppointmentsAsChanges() {
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.appointmentsOverlap(SUN_APPOINTMENT_11_TO_13));
+        assertEquals(Arrays.asList(AddressBookChange.added(ALICE), AddressBookChange.added(BENSON)),
+                modelManager.takeAddressBookChanges());
+    }
+
     //// tests for appointment
     @Test
     public void appointmentOverlaps_nullAppointment_throwsNullPointerException() {
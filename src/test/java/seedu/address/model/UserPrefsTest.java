@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,34 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void resetData_copiesAddressBookBackupCount() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookBackupCount(3);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void resetData_copiesAddressBookFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void resetData_copiesAddressBookCompact() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookCompact(true);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
@@ -0,0 +1,113 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+
+public class AppointmentOverlapDetectorTest {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private final Appointment sundayAppointment = new Appointment("10:00-12:00 SUN");
+    private final Appointment sundayOverlappingAppointment = new Appointment("11:00-13:00 SUN");
+    private final Appointment sundayAdjacentAppointment = new Appointment("12:00-13:00 SUN");
+    private final Appointment mondayLateAppointment = new Appointment("20:00-23:59 MON");
+    private final Appointment tuesdayEarlyAppointment = new Appointment("09:00-10:00 TUE");
+
+    @Test
+    public void hasOverlapping_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AppointmentOverlapDetector.hasOverlapping(null));
+    }
+
+    @Test
+    public void hasOverlapping_emptyCollection_returnsFalse() {
+        assertFalse(AppointmentOverlapDetector.hasOverlapping(Collections.emptyList()));
+    }
+
+    @Test
+    public void hasOverlapping_adjacentAppointments_returnsFalse() {
+        assertFalse(AppointmentOverlapDetector.hasOverlapping(
+                Arrays.asList(sundayAdjacentAppointment, sundayAppointment)));
+    }
+
+    @Test
+    public void hasOverlapping_sameTimeOnDifferentDays_returnsFalse() {
+        assertFalse(AppointmentOverlapDetector.hasOverlapping(
+                Arrays.asList(sundayAppointment, new Appointment("10:00-12:00 SAT"))));
+    }
+
+    @Test
+    public void hasOverlapping_overlappingAppointments_returnsTrue() {
+        assertTrue(AppointmentOverlapDetector.hasOverlapping(
+                Arrays.asList(tuesdayEarlyAppointment, sundayOverlappingAppointment, sundayAppointment)));
+    }
+
+    @Test
+    public void hasOverlapping_appointmentEnclosedByEarlierAppointment_returnsTrue() {
+        // the enclosed appointment does not overlap the appointment directly before it
+        assertTrue(AppointmentOverlapDetector.hasOverlapping(Arrays.asList(
+                new Appointment("08:00-18:00 SUN"), new Appointment("09:00-10:00 SUN"),
+                new Appointment("11:00-12:00 SUN"))));
+    }
+
+    @Test
+    public void hasOverlapping_duplicateAppointments_returnsTrue() {
+        assertTrue(AppointmentOverlapDetector.hasOverlapping(
+                Arrays.asList(sundayAppointment, new Appointment("10:00-12:00 SUN"))));
+    }
+
+    @Test
+    public void findOverlappingPairs_noOverlaps_returnsEmptyList() {
+        assertTrue(AppointmentOverlapDetector.findOverlappingPairs(
+                Arrays.asList(mondayLateAppointment, tuesdayEarlyAppointment, sundayAppointment)).isEmpty());
+    }
+
+    @Test
+    public void findOverlappingPairs_overlappingAppointments_returnsPairsInOrder() {
+        List<Pair<Appointment, Appointment>> pairs = AppointmentOverlapDetector.findOverlappingPairs(
+                Arrays.asList(sundayOverlappingAppointment, mondayLateAppointment, sundayAppointment,
+                        tuesdayEarlyAppointment));
+        assertEquals(1, pairs.size());
+        assertEquals(sundayAppointment, pairs.get(0).getKey());
+        assertEquals(sundayOverlappingAppointment, pairs.get(0).getValue());
+    }
+
+    @Test
+    public void findOverlappingPairs_randomAppointments_matchesPairwiseScan() {
+        Random random = new Random(2103);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(23 * 60);
+            int end = start + 1 + random.nextInt(60);
+            appointments.add(new Appointment(String.format("%02d:%02d-%02d:%02d %s",
+                    start / 60, start % 60, end / 60, end % 60, DAYS[random.nextInt(DAYS.length)])));
+        }
+
+        int expectedPairCount = 0;
+        for (int i = 0; i < appointments.size(); i++) {
+            for (int j = i + 1; j < appointments.size(); j++) {
+                if (appointments.get(i).overlapsWith(appointments.get(j))) {
+                    expectedPairCount++;
+                }
+            }
+        }
+
+        List<Pair<Appointment, Appointment>> pairs = AppointmentOverlapDetector.findOverlappingPairs(appointments);
+        assertEquals(expectedPairCount, pairs.size());
+        for (Pair<Appointment, Appointment> pair : pairs) {
+            assertTrue(pair.getKey().overlapsWith(pair.getValue()));
+        }
+        assertEquals(expectedPairCount > 0, AppointmentOverlapDetector.hasOverlapping(appointments));
+    }
+}
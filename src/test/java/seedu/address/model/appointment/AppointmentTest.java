@@ -1,11 +1,15 @@
 package seedu.address.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +144,107 @@ public class AppointmentTest {
         assertFalse(Appointment.hasOverlapping(appointments));
     }
 
+    @Test
+    public void fromPacked_validStartAndDuration_equalsParsedAppointment() {
+        Appointment appointment = Appointment.fromPacked(6 * Appointment.MINUTES_PER_DAY + 8 * 60 + 5, 55);
+        assertEquals(new Appointment("08:05-09:00 sun"), appointment);
+        assertEquals(new Appointment("08:05-09:00 SUN").hashCode(), appointment.hashCode());
+        assertEquals("08:05-09:00 SUN", appointment.getValue());
+
+        // same times typed with extra spaces -> not equal
+        assertFalse(appointment.equals(new Appointment("08:05-09:00  SUN")));
+    }
+
+    @Test
+    public void fromPacked_invalidStartOrDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromPacked(-1, 60));
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromPacked(7 * Appointment.MINUTES_PER_DAY, 60));
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromPacked(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromPacked(23 * 60, 60));
+    }
+
+    @Test
+    public void constructor_validAppointment_packsStartAndEnd() {
+        Appointment appointment = new Appointment("09:30-11:15   wed");
+
+        assertEquals("09:30-11:15   WED", appointment.getValue());
+        assertEquals(DayOfWeek.WEDNESDAY, appointment.getDay());
+        assertEquals(LocalTime.of(9, 30), appointment.getStartTime());
+        assertEquals(LocalTime.of(11, 15), appointment.getEndTime());
+        assertEquals(9 * 60 + 30, appointment.getStartMinute());
+        assertEquals(11 * 60 + 15, appointment.getEndMinute());
+        assertEquals(105, appointment.getDuration());
+        assertEquals(2 * Appointment.MINUTES_PER_DAY + 9 * 60 + 30, appointment.getStartMinuteOfWeek());
+        assertEquals(2 * Appointment.MINUTES_PER_DAY + 11 * 60 + 15, appointment.getEndMinuteOfWeek());
+
+        Appointment lastOfWeek = new Appointment("23:58-23:59 SUN");
+        assertEquals(DayOfWeek.SUNDAY, lastOfWeek.getDay());
+        assertEquals(LocalTime.of(23, 59), lastOfWeek.getEndTime());
+    }
+
+    @Test
+    public void compareTo() {
+        Appointment mondayMorning = new Appointment("09:00-10:00 MON");
+
+        // earlier day -> before
+        assertTrue(mondayMorning.compareTo(new Appointment("08:00-09:00 TUE")) < 0);
+        assertTrue(new Appointment("23:00-23:59 SUN").compareTo(mondayMorning) > 0);
+
+        // same day, earlier start -> before
+        assertTrue(new Appointment("08:00-12:00 MON").compareTo(mondayMorning) < 0);
+
+        // same start, earlier end -> before
+        assertTrue(mondayMorning.compareTo(new Appointment("09:00-11:00 MON")) < 0);
+
+        // same start and end -> equal
+        assertEquals(0, mondayMorning.compareTo(new Appointment("09:00-10:00 mon")));
+    }
+
+    @Test
+    public void overlapsWith_adjacentDays_returnsFalse() {
+        assertFalse(new Appointment("22:00-23:59 MON").overlapsWith(new Appointment("00:00-01:00 TUE")));
+        assertFalse(new Appointment("00:00-01:00 TUE").overlapsWith(new Appointment("22:00-23:59 MON")));
+    }
+
+    @Test
+    public void isValidAppointment_randomStrings_sameAsRegexCheck() {
+        String[] parts = {"0", "1", "2", "3", "5", "9", ":", "-", " ", "\t", "\n", "x", "MON", "mOn", "TUE", "SUN",
+            "SUM", "_ON", "M"};
+        Random random = new Random(2103);
+        for (int i = 0; i < 50000; i++) {
+            StringBuilder test = new StringBuilder();
+            // most strings start with well-formed times so that the day and the whitespace are reached
+            if (random.nextBoolean()) {
+                test.append(String.format("%02d:%02d-%02d:%02d", random.nextInt(26), random.nextInt(62),
+                        random.nextInt(26), random.nextInt(62)));
+            }
+            int partCount = random.nextInt(8);
+            for (int j = 0; j < partCount; j++) {
+                test.append(parts[random.nextInt(parts.length)]);
+            }
+
+            String value = test.toString();
+            assertEquals(isValidAppointmentByRegex(value), Appointment.isValidAppointment(value), value);
+        }
+    }
+
+    /**
+     * Checks {@code test} with {@link Appointment#VALIDATION_REGEX} followed by the checks on its parts,
+     * as {@link Appointment#isValidAppointment} did before it scanned the string in place.
+     */
+    private static boolean isValidAppointmentByRegex(String test) {
+        if (!test.matches(Appointment.VALIDATION_REGEX)) {
+            return false;
+        }
+
+        String start = test.substring(0, 5);
+        String end = test.substring(6, 11);
+        if (Integer.parseInt(start.substring(0, 2)) >= 24 || Integer.parseInt(start.substring(3, 5)) >= 60
+                || Integer.parseInt(end.substring(0, 2)) >= 24 || Integer.parseInt(end.substring(3, 5)) >= 60) {
+            return false;
+        }
+
+        return LocalTime.parse(start).isBefore(LocalTime.parse(end))
+                && Appointment.DAY_TO_DAY_OF_WEEK.containsKey(test.substring(12).trim().toUpperCase());
+    }
 }
@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
 
@@ -139,4 +142,123 @@ public class DisjointAppointmentListTest {
                 .setAppointments(appointments));
     }
 
+    @Test
+    public void overlaps_appointmentOnDifferentDay_returnsFalse() {
+        appointmentList.add(sundayAppointment);
+        assertFalse(appointmentList.overlaps(fridayAppointment));
+    }
+
+    @Test
+    public void overlaps_adjacentAppointments_returnsFalse() {
+        appointmentList.add(new Appointment("08:00-10:00 SUN"));
+        appointmentList.add(new Appointment("12:00-14:00 SUN"));
+        assertFalse(appointmentList.overlaps(sundayAppointment));
+    }
+
+    @Test
+    public void overlaps_appointmentEnclosingExistingAppointment_returnsTrue() {
+        appointmentList.add(new Appointment("08:00-09:00 SUN"));
+        appointmentList.add(sundayOverlappingAppointment);
+        assertTrue(appointmentList.overlaps(new Appointment("10:30-13:00 SUN")));
+    }
+
+    @Test
+    public void overlaps_afterRemove_returnsFalse() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.remove(sundayAppointment);
+        assertFalse(appointmentList.overlaps(sundayOverlappingAppointment));
+        assertFalse(appointmentList.contains(sundayAppointment));
+    }
+
+    @Test
+    public void overlaps_afterSetAppointment_checksEditedAppointment() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.setAppointment(sundayAppointment, fridayAppointment);
+        assertFalse(appointmentList.overlaps(sundayOverlappingAppointment));
+        assertTrue(appointmentList.overlaps(new Appointment("11:00-11:30 FRI")));
+    }
+
+    @Test
+    public void addAll_overlappingExistingAppointment_throwsOverlappingAppointmentException() {
+        appointmentList.add(sundayAppointment);
+        List<Appointment> appointments = Arrays.asList(fridayAppointment, sundayOverlappingAppointment);
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList.addAll(appointments));
+        assertFalse(appointmentList.contains(fridayAppointment));
+    }
+
+    @Test
+    public void addAll_disjointAppointments_success() {
+        appointmentList.add(fridayAppointment);
+        appointmentList.addAll(Arrays.asList(sundayAppointment, new Appointment("12:00-13:00 SUN")));
+        assertTrue(appointmentList.contains(sundayAppointment));
+        assertTrue(appointmentList.overlaps(new Appointment("12:30-14:00 SUN")));
+    }
+
+    @Test
+    public void setAppointments_overlappingAppointmentList_throwsOverlappingAppointmentException() {
+        AppointmentList appointments = new AppointmentList();
+        appointments.add(sundayAppointment);
+        appointments.add(sundayOverlappingAppointment);
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList.setAppointments(appointments));
+    }
+
+    @Test
+    public void add_appointmentsOutOfOrder_keepsListSorted() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.add(fridayAppointment);
+        appointmentList.add(new Appointment("08:00-09:00 SUN"));
+        assertEquals(Arrays.asList(fridayAppointment, new Appointment("08:00-09:00 SUN"), sundayAppointment),
+                appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentOnEarlierDay_keepsListSorted() {
+        appointmentList.add(fridayAppointment);
+        appointmentList.add(sundayAppointment);
+        Appointment mondayAppointment = new Appointment("10:00-12:00 MON");
+        appointmentList.setAppointment(sundayAppointment, mondayAppointment);
+        assertEquals(Arrays.asList(mondayAppointment, fridayAppointment),
+                appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_disjointAppointments_notifiesListenersOnce() {
+        appointmentList.addAll(Arrays.asList(fridayAppointment, sundayAppointment));
+        List<Integer> changeSizes = new ArrayList<>();
+        appointmentList.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change ->
+                changeSizes.add(change.getList().size()));
+
+        Appointment mondayAppointment = new Appointment("10:00-12:00 MON");
+        appointmentList.replace(Collections.singletonList(sundayAppointment),
+                Arrays.asList(sundayOverlappingAppointment, mondayAppointment));
+
+        assertEquals(Collections.singletonList(3), changeSizes);
+        assertEquals(Arrays.asList(mondayAppointment, fridayAppointment, sundayOverlappingAppointment),
+                appointmentList.asUnmodifiableObservableList());
+        assertFalse(appointmentList.contains(sundayAppointment));
+    }
+
+    @Test
+    public void replace_overlappingAppointments_leavesListUnchanged() {
+        appointmentList.addAll(Arrays.asList(fridayAppointment, sundayAppointment));
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList.replace(
+                Collections.singletonList(fridayAppointment), Collections.singletonList(sundayOverlappingAppointment)));
+        assertEquals(Arrays.asList(fridayAppointment, sundayAppointment),
+                appointmentList.asUnmodifiableObservableList());
+        assertTrue(appointmentList.overlaps(new Appointment("11:00-11:30 FRI")));
+    }
+
+    @Test
+    public void replace_targetNotInList_throwsAppointmentNotFoundException() {
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.replace(
+                Collections.singletonList(fridayAppointment), Collections.emptyList()));
+    }
+
+    @Test
+    public void removeAll_existingAppointments_removesAppointments() {
+        appointmentList.addAll(Arrays.asList(fridayAppointment, sundayAppointment));
+        appointmentList.removeAll(Arrays.asList(sundayAppointment, fridayAppointment));
+        assertTrue(appointmentList.isEmpty());
+        assertFalse(appointmentList.overlaps(sundayOverlappingAppointment));
+    }
 }
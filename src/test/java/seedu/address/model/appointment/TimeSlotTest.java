@@ -0,0 +1,49 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotTest {
+
+    @Test
+    public void constructor_invalidTimes_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new TimeSlot(null, 0, 60));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(DayOfWeek.MONDAY, -1, 60));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(DayOfWeek.MONDAY, 60, 60));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(DayOfWeek.MONDAY, 0,
+                Appointment.MINUTES_PER_DAY + 1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("MON 09:05-10:30", new TimeSlot(DayOfWeek.MONDAY, 9 * 60 + 5, 10 * 60 + 30).toString());
+        assertEquals("SUN 23:00-24:00", new TimeSlot(DayOfWeek.SUNDAY, 23 * 60, Appointment.MINUTES_PER_DAY)
+                .toString());
+    }
+
+    @Test
+    public void equals() {
+        TimeSlot timeSlot = new TimeSlot(DayOfWeek.MONDAY, 0, 60);
+
+        // same values -> returns true
+        assertTrue(timeSlot.equals(new TimeSlot(DayOfWeek.MONDAY, 0, 60)));
+
+        // same object -> returns true
+        assertTrue(timeSlot.equals(timeSlot));
+
+        // null -> returns false
+        assertFalse(timeSlot.equals(null));
+
+        // different day -> returns false
+        assertFalse(timeSlot.equals(new TimeSlot(DayOfWeek.TUESDAY, 0, 60)));
+
+        // different end -> returns false
+        assertFalse(timeSlot.equals(new TimeSlot(DayOfWeek.MONDAY, 0, 61)));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeeklyOccupancyTest {
+
+    private final WeeklyOccupancy occupancy = new WeeklyOccupancy();
+
+    @Test
+    public void overlaps_nullAppointment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> occupancy.overlaps(null));
+    }
+
+    @Test
+    public void overlaps_noAppointments_returnsFalse() {
+        assertFalse(occupancy.overlaps(new Appointment("00:00-23:59 MON")));
+    }
+
+    @Test
+    public void overlaps_appointmentAdded_returnsTrueForOverlappingAppointments() {
+        // spans several 64-minute words
+        occupancy.add(new Appointment("01:03-04:10 TUE"));
+
+        assertTrue(occupancy.overlaps(new Appointment("01:03-04:10 TUE")));
+        assertTrue(occupancy.overlaps(new Appointment("00:00-01:04 TUE")));
+        assertTrue(occupancy.overlaps(new Appointment("04:09-05:00 TUE")));
+        assertTrue(occupancy.overlaps(new Appointment("02:00-02:01 TUE")));
+        assertTrue(occupancy.overlaps(new Appointment("00:00-23:59 TUE")));
+
+        // touching the ends
+        assertFalse(occupancy.overlaps(new Appointment("00:00-01:03 TUE")));
+        assertFalse(occupancy.overlaps(new Appointment("04:10-05:00 TUE")));
+
+        // same time on other days
+        assertFalse(occupancy.overlaps(new Appointment("01:03-04:10 MON")));
+        assertFalse(occupancy.overlaps(new Appointment("01:03-04:10 WED")));
+    }
+
+    @Test
+    public void remove_addedAppointment_freesMinutes() {
+        Appointment appointment = new Appointment("10:00-12:00 SUN");
+        occupancy.add(new Appointment("09:00-10:00 SUN"));
+        occupancy.add(appointment);
+
+        occupancy.remove(appointment);
+
+        assertFalse(occupancy.overlaps(appointment));
+        assertTrue(occupancy.overlaps(new Appointment("09:30-10:30 SUN")));
+    }
+
+    @Test
+    public void setAll_replacesAppointments() {
+        occupancy.add(new Appointment("10:00-12:00 MON"));
+
+        occupancy.setAll(List.of(new Appointment("10:00-12:00 FRI")));
+
+        assertFalse(occupancy.overlaps(new Appointment("10:00-12:00 MON")));
+        assertTrue(occupancy.overlaps(new Appointment("10:00-12:00 FRI")));
+    }
+
+    @Test
+    public void findFreeSlots_noAppointments_returnsWholeDay() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertEquals(List.of(new TimeSlot(day, 0, Appointment.MINUTES_PER_DAY)),
+                    occupancy.findFreeSlots(day, Appointment.MINUTES_PER_DAY));
+        }
+    }
+
+    @Test
+    public void findFreeSlots_appointments_returnsPeriodsBetweenThem() {
+        occupancy.add(new Appointment("09:00-10:00 SUN"));
+        occupancy.add(new Appointment("10:00-11:30 SUN"));
+        occupancy.add(new Appointment("13:00-23:59 SUN"));
+        occupancy.add(new Appointment("08:00-20:00 SAT"));
+
+        assertEquals(List.of(new TimeSlot(DayOfWeek.SUNDAY, 0, 9 * 60),
+                new TimeSlot(DayOfWeek.SUNDAY, 11 * 60 + 30, 13 * 60),
+                new TimeSlot(DayOfWeek.SUNDAY, 23 * 60 + 59, Appointment.MINUTES_PER_DAY)),
+                occupancy.findFreeSlots(DayOfWeek.SUNDAY, 1));
+
+        // too short
+        assertEquals(List.of(new TimeSlot(DayOfWeek.SUNDAY, 0, 9 * 60)),
+                occupancy.findFreeSlots(DayOfWeek.SUNDAY, 91));
+
+        // appointments on other days are ignored
+        assertEquals(List.of(new TimeSlot(DayOfWeek.FRIDAY, 0, Appointment.MINUTES_PER_DAY)),
+                occupancy.findFreeSlots(DayOfWeek.FRIDAY, 1));
+    }
+
+    @Test
+    public void findFreeSlots_noPeriodLongEnough_returnsEmptyList() {
+        occupancy.add(new Appointment("00:00-12:00 WED"));
+        occupancy.add(new Appointment("12:00-23:59 WED"));
+
+        assertEquals(Collections.emptyList(), occupancy.findFreeSlots(DayOfWeek.WEDNESDAY, 2));
+    }
+}
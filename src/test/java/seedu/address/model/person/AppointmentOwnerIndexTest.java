@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CELINE;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.PersonBuilder;
+
+public class AppointmentOwnerIndexTest {
+
+    private static final List<DayOfWeek> ALL_DAYS = Arrays.asList(DayOfWeek.values());
+
+    private final AppointmentOwnerIndex index = new AppointmentOwnerIndex();
+
+    @Test
+    public void find_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null, owner -> true));
+        assertThrows(NullPointerException.class, () -> index.find(ALL_DAYS, null));
+    }
+
+    @Test
+    public void find_noDays_returnsEmptyList() {
+        index.add(BENSON);
+        assertTrue(index.find(Collections.emptyList(), owner -> true).isEmpty());
+    }
+
+    @Test
+    public void find_severalDays_returnsAppointmentsInOrderOfDayAndTime() {
+        Person alice = new PersonBuilder().withName("Alice")
+                .withAppointments("14:00-15:00 MON", "09:00-10:00 SUN").build();
+        Person bob = new PersonBuilder().withName("Bob")
+                .withAppointments("10:00-11:00 SUN", "08:00-09:00 MON", "12:00-13:00 WED").build();
+        index.add(alice);
+        index.add(bob);
+
+        // the days are listed out of order and repeated
+        List<OwnedAppointment> expected = Arrays.asList(owned("08:00-09:00 MON", bob),
+                owned("14:00-15:00 MON", alice), owned("09:00-10:00 SUN", alice), owned("10:00-11:00 SUN", bob));
+        assertEquals(expected, index.find(Arrays.asList(DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.SUNDAY),
+                owner -> true));
+        assertEquals(Collections.singletonList(owned("12:00-13:00 WED", bob)),
+                index.find(EnumSet.of(DayOfWeek.WEDNESDAY), owner -> true));
+    }
+
+    @Test
+    public void find_ownerFilter_returnsOnlyAppointmentsOfMatchingOwners() {
+        index.add(BENSON);
+        index.add(CELINE);
+        List<OwnedAppointment> found = index.find(ALL_DAYS, owner -> owner == CELINE);
+        assertEquals(2, found.size());
+        assertTrue(found.stream().allMatch(appointment -> appointment.getOwner() == CELINE));
+    }
+
+    @Test
+    public void find_sameAppointmentOfDifferentOwners_keepsBoth() {
+        Person alice = new PersonBuilder().withName("Alice").withAppointments("10:00-11:00 TUE").build();
+        Person bob = new PersonBuilder().withName("Bob").withAppointments("10:00-11:00 TUE").build();
+        index.add(bob);
+        index.add(alice);
+        assertEquals(Arrays.asList(owned("10:00-11:00 TUE", alice), owned("10:00-11:00 TUE", bob)),
+                index.find(ALL_DAYS, owner -> true));
+
+        index.remove(alice);
+        assertEquals(Collections.singletonList(owned("10:00-11:00 TUE", bob)), index.find(ALL_DAYS, owner -> true));
+    }
+
+    @Test
+    public void remove_person_removesOnlyItsAppointments() {
+        index.add(BENSON);
+        index.add(CELINE);
+        index.remove(CELINE);
+        assertEquals(Collections.singletonList(owned("12:00-13:00 SUN", BENSON)), index.find(ALL_DAYS, owner -> true));
+    }
+
+    @Test
+    public void setAll_replacesIndexedAppointments() {
+        index.add(CELINE);
+        index.setAll(Collections.singletonList(BENSON));
+        assertEquals(Collections.singletonList(owned("12:00-13:00 SUN", BENSON)), index.find(ALL_DAYS, owner -> true));
+    }
+
+    private static OwnedAppointment owned(String appointment, Person owner) {
+        return new OwnedAppointment(new Appointment(appointment), owner);
+    }
+}
@@ -57,4 +57,13 @@ public class LevelTest {
         // different values -> returns false
         assertFalse(level.equals(new Level("P2")));
     }
+
+    @Test
+    public void fromOrdinal() {
+        Level level = new Level("P3");
+        assertTrue(level.equals(Level.fromOrdinal(level.getOrdinal())));
+
+        assertThrows(IllegalArgumentException.class, () -> Level.fromOrdinal(-1));
+        assertThrows(IllegalArgumentException.class, () -> Level.fromOrdinal(LevelEnum.values().length));
+    }
 }
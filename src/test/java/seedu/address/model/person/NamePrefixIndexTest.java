@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NamePrefixIndexTest {
+
+    private final NamePrefixIndex index = new NamePrefixIndex();
+
+    @Test
+    public void find_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null, 1));
+    }
+
+    @Test
+    public void find_prefixInDifferentCase_returnsNamesInOrder() {
+        index.add(new Name("alice Tan"));
+        index.add(new Name("Alex Yeoh"));
+        index.add(new Name("Bob Choo"));
+        index.add(new Name("ALICE PAULINE"));
+
+        assertEquals(Arrays.asList("ALICE PAULINE", "alice Tan"), index.find("aLiCe", 10));
+        assertEquals(Arrays.asList("Alex Yeoh", "ALICE PAULINE", "alice Tan"), index.find("al", 10));
+        assertEquals(Collections.singletonList("Bob Choo"), index.find("bob c", 10));
+    }
+
+    @Test
+    public void find_moreNamesThanLimit_returnsFirstNames() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Arrays.asList("Alice Pauline", "Benson Meier"), index.find("", 2));
+        assertTrue(index.find("e", 0).isEmpty());
+    }
+
+    @Test
+    public void find_noNameWithPrefix_returnsEmptyList() {
+        index.setAll(getTypicalPersons());
+        assertTrue(index.find("Zack", 10).isEmpty());
+        // only the start of the full name is matched
+        assertTrue(index.find("Pauline", 10).isEmpty());
+    }
+
+    @Test
+    public void find_afterRemove_returnsRemainingNames() {
+        index.add(new Name("Alice Pauline"));
+        index.add(new Name("Alice Tan"));
+        index.remove(new Name("alice pauline"));
+        assertEquals(Collections.singletonList("Alice Tan"), index.find("Alice", 10));
+    }
+
+    @Test
+    public void setAll_replacesNames() {
+        index.add(new Name("Zack"));
+        index.setAll(getTypicalPersons());
+        List<String> names = index.find("", 10);
+        assertEquals(getTypicalPersons().size(), names.size());
+        assertTrue(index.find("Zack", 10).isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NameTokenIndex.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_returnsSameForm() {
+        assertEquals(NameTokenIndex.foldCase("ALICE"), NameTokenIndex.foldCase("aLiCe"));
+        // dotless i, which equalsIgnoreCase considers equal to i
+        assertEquals(NameTokenIndex.foldCase("i"), NameTokenIndex.foldCase("\u0131"));
+    }
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_keywordInDifferentCase_returnsPerson() {
+        index.add(ALICE);
+        assertEquals(Collections.singleton(ALICE), index.find(Collections.singletonList("aLIce")));
+    }
+
+    @Test
+    public void find_multipleKeywords_returnsUnion() {
+        index.setAll(getTypicalPersons());
+        Set<Person> matchingPersons = index.find(Arrays.asList("Alice", "Meier"));
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Meier"));
+        List<Person> expectedPersons = getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expectedPersons.size(), matchingPersons.size());
+        assertTrue(matchingPersons.containsAll(expectedPersons));
+        assertTrue(matchingPersons.contains(BENSON));
+        assertTrue(matchingPersons.contains(DANIEL));
+    }
+
+    @Test
+    public void find_partialWord_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.find(Arrays.asList("Ali", "Alice Pauline")).isEmpty());
+    }
+
+    @Test
+    public void find_afterRemove_returnsEmptySet() {
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertTrue(index.find(Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void find_equalPersonNotAdded_returnsEmptySet() {
+        index.add(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).build();
+        index.remove(otherAlice);
+
+        // persons are held by identity, so only the added object is found
+        Set<Person> matchingPersons = index.find(Collections.singletonList("Alice"));
+        assertEquals(1, matchingPersons.size());
+        assertTrue(matchingPersons.contains(ALICE));
+        assertFalse(matchingPersons.contains(otherAlice));
+    }
+
+    @Test
+    public void setAll_replacesIndexedPersons() {
+        index.add(ALICE);
+        index.setAll(Collections.singletonList(BENSON));
+        assertTrue(index.find(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(Collections.singleton(BENSON), index.find(Collections.singletonList("benson")));
+    }
+}
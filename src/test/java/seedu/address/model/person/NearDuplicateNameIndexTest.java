@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NearDuplicateNameIndexTest {
+
+    private final NearDuplicateNameIndex index = new NearDuplicateNameIndex();
+
+    @Test
+    public void normalize_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NearDuplicateNameIndex.normalize(null));
+    }
+
+    @Test
+    public void normalize_nameWithWhitespaceAndUpperCase_returnsNormalizedName() {
+        assertEquals("alicepauline", NearDuplicateNameIndex.normalize("  Alice \t PAULINE "));
+    }
+
+    @Test
+    public void editDistance_variousNames_returnsLevenshteinDistance() {
+        assertEquals(0, NearDuplicateNameIndex.editDistance("alice", "alice"));
+        assertEquals(1, NearDuplicateNameIndex.editDistance("alice", "alise"));
+        assertEquals(1, NearDuplicateNameIndex.editDistance("alice", "alic"));
+        assertEquals(3, NearDuplicateNameIndex.editDistance("kitten", "sitting"));
+        assertEquals(5, NearDuplicateNameIndex.editDistance("", "alice"));
+    }
+
+    @Test
+    public void find_namesWithSameNormalizedName_returnsAllOriginalNames() {
+        index.setAll(Arrays.asList("Alice Pauline", "alice pauline", "Bob Choo"));
+        assertEquals(Arrays.asList("Alice Pauline", "alice pauline"), index.find("ALICEPAULINE"));
+    }
+
+    @Test
+    public void find_afterRemove_doesNotReturnRemovedName() {
+        index.add("Alice Pauline");
+        index.add("alice pauline");
+        index.remove("Alice Pauline");
+        index.remove("Carl Kurz");
+
+        assertEquals(Collections.singletonList("alice pauline"), index.find("Alice Pauline"));
+        assertEquals(Collections.singletonList("alice pauline"), index.find("Alice Pauline", 2));
+    }
+
+    @Test
+    public void find_withinEditDistance_returnsCloseNamesOnly() {
+        index.setAll(Arrays.asList("Alice Pauline", "Alise Pauline", "Alice Paulina Tan", "Bob Choo"));
+        assertEquals(Arrays.asList("Alice Pauline"), index.find("alice pauline", 0));
+        List<String> matches = index.find("alice pauline", 1);
+        Collections.sort(matches);
+        assertEquals(Arrays.asList("Alice Pauline", "Alise Pauline"), matches);
+    }
+
+    @Test
+    public void find_randomNames_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            names.add(randomName(random));
+        }
+        index.setAll(names);
+        // free the ids of removed names to exercise reusing them
+        for (int i = 0; i < 300; i++) {
+            index.remove(names.remove(names.size() - 1));
+        }
+        for (int i = 0; i < 100; i++) {
+            String name = randomName(random);
+            index.add(name);
+            names.add(name);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomName(random);
+            for (int maxEditDistance = 0; maxEditDistance <= 2; maxEditDistance++) {
+                List<String> expected = new ArrayList<>();
+                for (String name : names) {
+                    if (NearDuplicateNameIndex.editDistance(NearDuplicateNameIndex.normalize(query),
+                            NearDuplicateNameIndex.normalize(name)) <= maxEditDistance) {
+                        expected.add(name);
+                    }
+                }
+                List<String> actual = index.find(query, maxEditDistance);
+                Collections.sort(expected);
+                Collections.sort(actual);
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void find_emptyIndex_returnsEmptyList() {
+        assertTrue(index.find("Alice").isEmpty());
+        assertTrue(index.find("Alice", 2).isEmpty());
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 3 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(3)));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CELINE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAttributeIndexTest {
+
+    private static final Set<Tag> NO_TAGS = Collections.emptySet();
+    private static final Set<Subject> NO_SUBJECTS = Collections.emptySet();
+    private static final Set<Level> NO_LEVELS = Collections.emptySet();
+
+    private final PersonAttributeIndex index = new PersonAttributeIndex();
+
+    @Test
+    public void find_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null, NO_SUBJECTS, NO_LEVELS));
+        assertThrows(NullPointerException.class, () -> index.find(NO_TAGS, null, NO_LEVELS));
+        assertThrows(NullPointerException.class, () -> index.find(NO_TAGS, NO_SUBJECTS, null));
+    }
+
+    @Test
+    public void find_noRestrictions_returnsAllPersons() {
+        index.setAll(getTypicalPersons());
+        assertEquals(getTypicalPersons().size(), index.find(NO_TAGS, NO_SUBJECTS, NO_LEVELS).size());
+    }
+
+    @Test
+    public void find_anyOfTags_returnsUnion() {
+        index.setAll(getTypicalPersons());
+        Set<Person> matchingPersons = index.find(Set.of(new Tag("friends"), new Tag("owesMoney")),
+                NO_SUBJECTS, NO_LEVELS);
+        assertEquals(3, matchingPersons.size());
+        assertTrue(matchingPersons.containsAll(Arrays.asList(ALICE, BENSON, DANIEL)));
+    }
+
+    @Test
+    public void find_tagAndSubject_returnsIntersection() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Collections.singleton(BENSON),
+                index.find(Set.of(new Tag("friends")), Set.of(new Subject("MATH")), NO_LEVELS));
+    }
+
+    @Test
+    public void find_levels_returnsPersonsWithLevel() {
+        index.setAll(Arrays.asList(ALICE, BOB, CELINE));
+        assertEquals(Collections.singleton(CELINE), index.find(NO_TAGS, NO_SUBJECTS, Set.of(new Level("P5"))));
+        assertEquals(2, index.find(NO_TAGS, NO_SUBJECTS, Set.of(new Level("P2"), new Level("p5"))).size());
+    }
+
+    @Test
+    public void find_unknownTag_returnsEmptySet() {
+        index.setAll(getTypicalPersons());
+        assertTrue(index.find(Set.of(new Tag("unknown")), NO_SUBJECTS, NO_LEVELS).isEmpty());
+    }
+
+    @Test
+    public void find_afterRemove_reusesSlot() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertEquals(Collections.singleton(BENSON), index.find(Set.of(new Tag("friends")), NO_SUBJECTS, NO_LEVELS));
+
+        index.add(CELINE);
+        assertEquals(Collections.singleton(CELINE), index.find(NO_TAGS, Set.of(new Subject("MT")), NO_LEVELS));
+        assertTrue(index.find(Set.of(new Tag("friends")), NO_SUBJECTS, NO_LEVELS).contains(BENSON));
+        assertEquals(2, index.find(NO_TAGS, NO_SUBJECTS, NO_LEVELS).size());
+    }
+
+    @Test
+    public void find_equalPersonRemoved_keepsAddedPerson() {
+        index.add(ALICE);
+        // persons are held by identity, so only the added object can be removed
+        index.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Collections.singleton(ALICE), index.find(NO_TAGS, NO_SUBJECTS, NO_LEVELS));
+    }
+
+    @Test
+    public void find_randomCombinations_matchesPredicate() {
+        Random random = new Random(18);
+        String[] tagNames = {"exam", "weak", "new", "paid"};
+        String[] subjects = {"ENGLISH", "MATH", "SCIENCE", "MT"};
+        String[] levels = {"P1", "P2", "P3", "P4", "P5", "P6"};
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            PersonBuilder builder = new PersonBuilder().withName("Person " + i)
+                    .withTags(pick(random, tagNames)).withSubjects(pick(random, subjects));
+            if (random.nextBoolean()) {
+                builder.withLevel(levels[random.nextInt(levels.length)]);
+            }
+            persons.add(builder.build());
+        }
+        index.setAll(persons);
+        for (int i = 0; i < 50; i++) {
+            index.remove(persons.remove(random.nextInt(persons.size())));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : pick(random, tagNames)) {
+                tags.add(new Tag(tagName));
+            }
+            Set<Subject> subjectSet = new HashSet<>();
+            for (String subject : pick(random, subjects)) {
+                subjectSet.add(new Subject(subject));
+            }
+            Set<Level> levelSet = new HashSet<>();
+            for (String level : pick(random, levels)) {
+                levelSet.add(new Level(level));
+            }
+
+            PersonHasAttributesPredicate predicate = new PersonHasAttributesPredicate(tags, subjectSet, levelSet);
+            Set<Person> matchingPersons = index.find(tags, subjectSet, levelSet);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), matchingPersons.contains(person));
+            }
+            assertEquals(persons.stream().filter(predicate).count(), matchingPersons.size());
+        }
+    }
+
+    private static String[] pick(Random random, String[] values) {
+        List<String> picked = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextInt(3) == 0) {
+                picked.add(value);
+            }
+        }
+        return picked.toArray(new String[0]);
+    }
+}
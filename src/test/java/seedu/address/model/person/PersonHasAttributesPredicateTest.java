@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonHasAttributesPredicateTest {
+
+    @Test
+    public void equals() {
+        PersonHasAttributesPredicate firstPredicate = new PersonHasAttributesPredicate(Set.of(new Tag("exam")),
+                Collections.emptySet(), Collections.emptySet());
+        PersonHasAttributesPredicate secondPredicate = new PersonHasAttributesPredicate(Collections.emptySet(),
+                Set.of(new Subject("MATH")), Set.of(new Level("P5")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        PersonHasAttributesPredicate firstPredicateCopy = new PersonHasAttributesPredicate(Set.of(new Tag("exam")),
+                Collections.emptySet(), Collections.emptySet());
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different attributes -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personHasAttributes_returnsTrue() {
+        Person person = new PersonBuilder().withTags("exam").withSubjects("MATH", "SCIENCE").withLevel("P5").build();
+
+        // one tag
+        assertTrue(new PersonHasAttributesPredicate(Set.of(new Tag("exam")), Collections.emptySet(),
+                Collections.emptySet()).test(person));
+
+        // any of the subjects
+        assertTrue(new PersonHasAttributesPredicate(Collections.emptySet(),
+                Set.of(new Subject("MATH"), new Subject("MT")), Collections.emptySet()).test(person));
+
+        // tag, subject and level
+        assertTrue(new PersonHasAttributesPredicate(Set.of(new Tag("exam")), Set.of(new Subject("SCIENCE")),
+                Set.of(new Level("P5"), new Level("P6"))).test(person));
+    }
+
+    @Test
+    public void test_personDoesNotHaveAttributes_returnsFalse() {
+        Person person = new PersonBuilder().withTags("exam").withSubjects("MATH").withLevel("P5").build();
+
+        // matching tag but different subject
+        assertFalse(new PersonHasAttributesPredicate(Set.of(new Tag("exam")), Set.of(new Subject("MT")),
+                Collections.emptySet()).test(person));
+
+        // tags are case-sensitive
+        assertFalse(new PersonHasAttributesPredicate(Set.of(new Tag("Exam")), Collections.emptySet(),
+                Collections.emptySet()).test(person));
+
+        // person without a level
+        assertFalse(new PersonHasAttributesPredicate(Collections.emptySet(), Collections.emptySet(),
+                Set.of(new Level("P5"))).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(new Tag("exam"));
+        PersonHasAttributesPredicate predicate = new PersonHasAttributesPredicate(tags, Collections.emptySet(),
+                Collections.emptySet());
+
+        String expected = PersonHasAttributesPredicate.class.getCanonicalName() + "{tags=" + tags
+                + ", subjects=[], levels=[]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
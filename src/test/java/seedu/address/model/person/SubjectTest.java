@@ -55,4 +55,13 @@ public class SubjectTest {
         // different values -> returns false
         assertFalse(subject.equals(new Subject("ENGLISH")));
     }
+
+    @Test
+    public void fromOrdinal() {
+        Subject subject = new Subject("MATH");
+        assertTrue(subject.equals(Subject.fromOrdinal(subject.getOrdinal())));
+
+        assertThrows(IllegalArgumentException.class, () -> Subject.fromOrdinal(-1));
+        assertThrows(IllegalArgumentException.class, () -> Subject.fromOrdinal(SubjectEnum.values().length));
+    }
 }
@@ -2,21 +2,28 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +54,93 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void findByNameKeywords_keywordInName_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singleton(ALICE),
+                uniquePersonList.findByNameKeywords(Collections.singletonList("pauline")));
+    }
+
+    @Test
+    public void findByNameKeywords_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertTrue(uniquePersonList.findByNameKeywords(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(Collections.singleton(BOB),
+                uniquePersonList.findByNameKeywords(Arrays.asList(BOB.getName().fullName.split(" "))));
+    }
+
+    @Test
+    public void findByNameKeywords_afterRemove_returnsEmptySet() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.findByNameKeywords(Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void findByNameKeywords_afterSetPersons_returnsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertTrue(uniquePersonList.findByNameKeywords(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(1, uniquePersonList.findByNameKeywords(Arrays.asList(BOB.getName().fullName.split(" "))).size());
+    }
+
+    @Test
+    public void findByAttributes_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("exam").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertTrue(uniquePersonList.findByAttributes(Set.of(new Tag("friends")), Collections.emptySet(),
+                Collections.emptySet()).isEmpty());
+        assertEquals(Collections.singleton(editedAlice), uniquePersonList.findByAttributes(Set.of(new Tag("exam")),
+                Collections.emptySet(), Collections.emptySet()));
+    }
+
+    @Test
+    public void findByAttributes_afterRemove_returnsEmptySet() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.findByAttributes(Collections.emptySet(), Collections.emptySet(),
+                Set.of(new Level(VALID_LEVEL_BOB))).isEmpty());
+    }
+
+    @Test
+    public void findNamesByPrefix_afterSetPersonAndRemove_returnsCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.findNamesByPrefix("alice", 10).isEmpty());
+        assertEquals(Collections.singletonList(BOB.getName().fullName),
+                uniquePersonList.findNamesByPrefix(BOB.getName().fullName.substring(0, 2), 10));
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.findNamesByPrefix("", 10).isEmpty());
+    }
+
+    @Test
+    public void findAppointments_afterSetPersonAndRemove_returnsCurrentAppointments() {
+        uniquePersonList.add(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withAppointments("09:00-10:00 MON").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        List<OwnedAppointment> appointments = uniquePersonList.findAppointments(
+                Arrays.asList(DayOfWeek.values()), owner -> true);
+        assertEquals(Collections.singletonList(new OwnedAppointment(new Appointment("09:00-10:00 MON"), editedBenson)),
+                appointments);
+        assertSame(editedBenson, appointments.get(0).getOwner());
+
+        uniquePersonList.remove(editedBenson);
+        assertTrue(uniquePersonList.findAppointments(Arrays.asList(DayOfWeek.values()), owner -> true).isEmpty());
+    }
+
     @Test
     public void findNearDuplicates_personWithSimilarName_returnsNearDuplicates() {
         uniquePersonList.add(ALICE);
@@ -59,6 +153,52 @@ public class UniquePersonListTest {
         assertTrue(nearDuplicates.contains(ALICE.getName().toString()));
     }
 
+    @Test
+    public void findNearDuplicates_afterSetPerson_returnsEditedName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertTrue(uniquePersonList.findNearDuplicates(ALICE).isEmpty());
+        assertEquals(Collections.singletonList(BOB.getName().toString()), uniquePersonList.findNearDuplicates(BOB));
+    }
+
+    @Test
+    public void findNearDuplicates_afterRemove_returnsEmptyList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.findNearDuplicates(ALICE).isEmpty());
+    }
+
+    @Test
+    public void findNearDuplicates_afterSetPersonWithNameInDifferentCase_returnsEditedName() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().toString().toLowerCase()).build();
+        uniquePersonList.setPerson(lowerCaseAlice, BOB);
+
+        assertTrue(uniquePersonList.findNearDuplicates(ALICE).isEmpty());
+        assertEquals(Collections.singletonList(BOB.getName().toString()), uniquePersonList.findNearDuplicates(BOB));
+    }
+
+    @Test
+    public void findNearDuplicates_afterRemoveWithNameInDifferentCase_returnsEmptyList() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().toString().toUpperCase()).build();
+        uniquePersonList.remove(upperCaseAlice);
+
+        assertTrue(uniquePersonList.findNearDuplicates(ALICE).isEmpty());
+        assertTrue(uniquePersonList.findNearDuplicates(ALICE, 2).isEmpty());
+    }
+
+    @Test
+    public void findNearDuplicates_withinEditDistance_returnsNearDuplicates() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person misspeltAlice = new PersonBuilder(ALICE).withName("Alise Pauline").build();
+
+        assertTrue(uniquePersonList.findNearDuplicates(misspeltAlice).isEmpty());
+        assertEquals(Collections.singletonList(ALICE.getName().toString()),
+                uniquePersonList.findNearDuplicates(misspeltAlice, 1));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -70,6 +210,34 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsAndIndexesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BENSON, BOB));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(Collections.singletonList(BENSON.getName().fullName),
+                uniquePersonList.findNamesByPrefix("ben", 8));
+        assertEquals(Set.of(BENSON), uniquePersonList.findByNameKeywords(Collections.singletonList("meier")));
+        assertEquals(1, uniquePersonList.findAppointments(Arrays.asList(DayOfWeek.values()), person -> true).size());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, editedAlice)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -114,6 +282,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesTargetIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -139,6 +317,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_releasesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -174,6 +361,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameInDifferentCase_throwsDuplicatePersonException() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, lowerCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
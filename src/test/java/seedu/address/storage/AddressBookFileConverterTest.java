@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(getTypicalAddressBook(), binaryStorage.readAddressBook().get());
+
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        assertTrue(AddressBookFileConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(getTypicalAddressBook(), jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convert_sourceWithJournal_includesJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(jsonStorage);
+        try {
+            journaledStorage.saveAddressBook(addressBook);
+            addressBook.addPerson(HOON);
+            journaledStorage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(HOON)));
+        } finally {
+            journaledStorage.close();
+        }
+
+        assertTrue(AddressBookFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(addressBook, binaryStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertIfNewer_targetNewer_notConverted() throws Exception {
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+
+        assertFalse(AddressBookFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(new AddressBook(), binaryStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertIfNewer_sourceNewer_converted() throws Exception {
+        binaryStorage.saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(getTypicalAddressBook(), binaryStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convertIfNewer_missingTarget_converted() throws Exception {
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFileConverter.convertIfNewer(jsonStorage, binaryStorage));
+        assertEquals(getTypicalAddressBook(), binaryStorage.readAddressBook().get());
+    }
+}
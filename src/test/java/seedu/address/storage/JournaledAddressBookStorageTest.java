@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("ab.json");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void saveAddressBookChanges_nullChanges_throwsNullPointerException() {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBookChanges(new AddressBook(), null));
+    }
+
+    @Test
+    public void saveAddressBookChanges_belowThreshold_appendsToJournalOnly() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        makeChanges(addressBook);
+
+        // the json file is left as it was, but reading replays the journal on top of it
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(filePath));
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBookChanges_pastThreshold_compactsJournal() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        makeChanges(addressBook);
+        storage.flush();
+
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+        assertEquals(addressBook, readAddressBook());
+        assertEquals(1, countSegments());
+    }
+
+    @Test
+    public void readAddressBook_segmentsLeftAfterCompaction_recordsNotReplayedTwice() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        makeChanges(addressBook);
+        Path segmentPath = JournaledAddressBookStorage.getSegmentPath(filePath, 1);
+        byte[] segment = Files.readAllBytes(segmentPath);
+
+        // compacting deletes the segment, which is put back as if the application stopped before deleting it
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertFalse(Files.exists(segmentPath));
+        Files.write(segmentPath, segment);
+
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecord() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        makeChanges(addressBook);
+        storage.close();
+
+        Files.write(JournaledAddressBookStorage.getSegmentPath(filePath, 1),
+                "{\"seq\":4,\"type\":\"DEL".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        makeChanges(addressBook);
+        storage.close();
+
+        // records 1 to 3 are in segment 1, and the record after them in a new segment
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        addressBook.removePerson(IDA);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.deleted(IDA)));
+        storage.flush();
+        Files.delete(JournaledAddressBookStorage.getSegmentPath(filePath, 1));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBookChanges_jsonFileWithoutJournal_rewritesJsonFile() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        // left behind by an earlier journal, and not part of the json file
+        Files.write(JournaledAddressBookStorage.getSegmentPath(filePath, 1),
+                "{\"seq\":1,\"type\":\"CLEAR\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(getTypicalAddressBook(), readAddressBook());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(HOON)));
+        storage.flush();
+
+        assertNotEquals(JsonAddressBookReader.NO_JOURNAL_SEQUENCE,
+                JsonAddressBookReader.readJournalSequence(filePath));
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBookChanges_clearedThenAdded_replaysBoth() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.cleared(),
+                AddressBookChange.added(HOON)));
+        storage.flush();
+
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesFileDirectly() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        Path otherFilePath = testFolder.resolve("other.json");
+
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(JsonAddressBookReader.NO_JOURNAL_SEQUENCE,
+                JsonAddressBookReader.readJournalSequence(otherFilePath));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportsErrorToHandler() throws Exception {
+        Path file = Files.createFile(testFolder.resolve("file"));
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(file.resolve("ab.json")));
+        List<IOException> errors = new ArrayList<>();
+        storage.setErrorHandler(errors::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(1, errors.size());
+        // the data file is outdated, and still cannot be written when closing
+        assertThrows(IOException.class, storage::close);
+    }
+
+    @Test
+    public void close_changesNotAppendedAfterFailure_rewritesDataFile() throws Exception {
+        CountDownLatch failure = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence)
+                    throws IOException {
+                if (saveCount.incrementAndGet() == 2) {
+                    awaitQuietly(failure);
+                    throw new IOException("disk full");
+                }
+                super.saveAddressBook(addressBook, filePath, journalSequence);
+            }
+        });
+        List<IOException> errors = new ArrayList<>();
+        storage.setErrorHandler(errors::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.saveAddressBook(addressBook);
+
+        // scheduled while the second write is still running, so it is dropped once that write fails
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(HOON)));
+        failure.countDown();
+        storage.close();
+
+        assertEquals(1, errors.size());
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    /**
+     * Adds, edits and deletes persons in {@code addressBook} and saves the changes to the journal,
+     * waiting for each save to be written.
+     */
+    private void makeChanges(AddressBook addressBook) throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.addPerson(IDA);
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(IDA),
+                AddressBookChange.edited(ALICE, editedAlice)));
+        storage.flush();
+
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.deleted(BENSON)));
+        storage.flush();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AddressBook readAddressBook() throws Exception {
+        JournaledAddressBookStorage readingStorage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        try {
+            return new AddressBook(readingStorage.readAddressBook().get());
+        } finally {
+            readingStorage.close();
+        }
+    }
+
+    private long countSegments() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("ab.json.journal.")).count();
+        }
+    }
+}
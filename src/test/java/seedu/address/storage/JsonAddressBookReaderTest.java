@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path APPOINTMENTS_BEFORE_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("appointmentsBeforePersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path MISMATCHED_APPOINTMENTS_FILE =
+            TEST_DATA_FOLDER.resolve("mismatchedAppointmentsAddressBook.json");
+    private static final Path NOT_JSON_OBJECT_FILE = TEST_DATA_FOLDER.resolve("notJsonObjectAddressBook.json");
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_appointmentsBeforePersons_success() throws Exception {
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(BENSON);
+        assertEquals(expectedAddressBook, JsonAddressBookReader.read(APPOINTMENTS_BEFORE_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_mismatchedAppointments_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_APPOINTMENTS_PERSONS_MISMATCH,
+                () -> JsonAddressBookReader.read(MISMATCHED_APPOINTMENTS_FILE));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_OBJECT_FILE));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(null, testFolder.resolve("addressBook.json"), false));
+    }
+
+    @Test
+    public void write_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(new AddressBook(), null, false));
+    }
+
+    @Test
+    public void write_prettyPrinted_sameAsDataBoundJson() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook, filePath, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_compact_readsBackWithoutLineBreaks() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_replacesContents() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+        assertEquals("{\"persons\":[],\"appointments\":[]}", Files.readString(filePath));
+    }
+}
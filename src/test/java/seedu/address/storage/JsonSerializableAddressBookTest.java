@@ -5,12 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -33,7 +38,47 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 1,
+                Email.MESSAGE_CONSTRAINTS), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelPersons_manyPersons_sameOrder() throws Exception {
+        List<Person> persons = buildPersons(500);
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+
+        assertEquals(persons, JsonSerializableAddressBook.toModelPersons(jsonAdaptedPersons, 0));
+    }
+
+    @Test
+    public void toModelPersons_manyInvalidPersons_reportsFirstInvalidPerson() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (Person person : buildPersons(500)) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        jsonAdaptedPersons.set(100, invalidEmailPerson("Invalid A"));
+        jsonAdaptedPersons.set(400, invalidEmailPerson("Invalid B"));
+
+        // indices are counted from the first person in the data file, starting from 1
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                1101, Email.MESSAGE_CONSTRAINTS), () -> JsonSerializableAddressBook.toModelPersons(
+                        jsonAdaptedPersons, 1000));
+    }
+
+    private static List<Person> buildPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson invalidEmailPerson(String name) {
+        return new JsonAdaptedPerson(name, "94351253", "invalid@email!3e", "4th street", null,
+                null, null, null, null);
     }
 
     @Test